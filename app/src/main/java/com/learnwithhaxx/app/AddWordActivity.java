@@ -1,9 +1,17 @@
 package com.learnwithhaxx.app;
 
+import android.content.Context;
 import android.content.Intent;
+import android.content.res.AssetFileDescriptor;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.View;
+import android.widget.ArrayAdapter;
+import android.widget.AutoCompleteTextView;
 import android.widget.Button;
 import android.widget.EditText;
 import android.widget.ImageButton;
@@ -13,25 +21,49 @@ import android.widget.Toast;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.content.ContextCompat;
 
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
+import com.learnwithhaxx.core.Gender;
+import com.learnwithhaxx.core.OfflineDictionary;
+import com.learnwithhaxx.core.Word;
+import com.learnwithhaxx.core.WordClassifier;
+import com.learnwithhaxx.core.WordCsv;
+
 import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class AddWordActivity extends AppCompatActivity {
 
     private static final int PICK_FILE_REQUEST = 1;
     private static final int CREATE_FILE_REQUEST = 2;
 
+    private static final int MEANING_SUGGESTIONS = 8;
+
+    private static WordClassifier classifier;
+    private static OfflineDictionary dictionary;
+
     private DatabaseHelper db;
-    private EditText inputGermanWord, inputMeaning, inputExample;
-    private TextView errorMessage;
+    // Saves and imports: inserts index every form and may build the compound lexicon, so never on the UI thread
+    private final ExecutorService importExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private EditText inputGermanWord, inputExample;
+    private AutoCompleteTextView inputMeaning;
+    private ArrayAdapter<String> meaningAdapter;
+    // Meaning last filled in from the dictionary; replaced as the German word changes, unless edited
+    private String autoMeaning;
+    private TextView errorMessage, articleSuggestion;
     private ImageButton exportImportBtn;
+    private Button submitBtn;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -45,8 +77,17 @@ public class AddWordActivity extends AppCompatActivity {
         inputMeaning = findViewById(R.id.inputMeaning);
         inputExample = findViewById(R.id.inputExample);
         errorMessage = findViewById(R.id.errorMessage);
+        articleSuggestion = findViewById(R.id.articleSuggestion);
         exportImportBtn = findViewById(R.id.exportImportBtn);
 
+        meaningAdapter = new ArrayAdapter<>(this, android.R.layout.simple_dropdown_item_1line, new ArrayList<>());
+        inputMeaning.setAdapter(meaningAdapter);
+        inputMeaning.setOnFocusChangeListener((v, hasFocus) -> {
+            if (hasFocus && meaningAdapter.getCount() > 0 && inputMeaning.getText().length() == 0) {
+                inputMeaning.showDropDown();
+            }
+        });
+
         // Back button
         findViewById(R.id.backBtn).setOnClickListener(v -> {
             finish();
@@ -57,9 +98,24 @@ public class AddWordActivity extends AppCompatActivity {
         exportImportBtn.setOnClickListener(v -> showExportImportDialog());
 
         // Submit button
-        Button submitBtn = findViewById(R.id.submitBtn);
+        submitBtn = findViewById(R.id.submitBtn);
         submitBtn.setOnClickListener(v -> saveWord());
 
+        // Suggest the article (or word class) while typing
+        inputGermanWord.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                updateSuggestion(s.toString());
+                updateMeaningSuggestions(s.toString());
+            }
+        });
+
         // Focus on German word input
         inputGermanWord.requestFocus();
 
@@ -115,14 +171,11 @@ public class AddWordActivity extends AppCompatActivity {
             if (outputStream == null) return;
 
             StringBuilder csv = new StringBuilder();
-            csv.append("German,Meaning,Example,Category\n");
+            csv.append(WordCsv.HEADER).append("\n");
 
             List<Word> words = db.getAllWords();
             for (Word w : words) {
-                csv.append(escapeCsv(w.getGermanWord())).append(",")
-                   .append(escapeCsv(w.getMeaning())).append(",")
-                   .append(escapeCsv(w.getExample())).append(",")
-                   .append(escapeCsv(w.getPartOfSpeech())).append("\n");
+                WordCsv.appendRow(csv, w);
             }
 
             outputStream.write(csv.toString().getBytes());
@@ -133,64 +186,134 @@ public class AddWordActivity extends AppCompatActivity {
         }
     }
 
+    // Reading, indexing and inserting run on a worker; only the result comes back to the UI
     private void processImport(Uri uri) {
-        try {
-            InputStream inputStream = getContentResolver().openInputStream(uri);
-            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-            String line;
-            List<String> lines = new ArrayList<>();
-            
-            while ((line = reader.readLine()) != null) {
-                lines.add(line);
-            }
-            reader.close();
+        Context app = getApplicationContext();
+        importExecutor.execute(() -> {
+            String message;
+            try {
+                InputStream inputStream = app.getContentResolver().openInputStream(uri);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
+                String line;
+                List<String> lines = new ArrayList<>();
+
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+                reader.close();
 
-            if (lines.isEmpty()) return;
+                if (lines.isEmpty()) return;
 
-            int startIndex = 0;
-            // Check if first line is header
-            if (lines.get(0).toLowerCase().contains("german")) {
-                startIndex = 1;
-            }
+                int startIndex = 0;
+                // Check if first line is header
+                if (WordCsv.isHeader(lines.get(0))) {
+                    startIndex = 1;
+                }
 
-            int count = 0;
-            // Iterate backwards so the top word in CSV is inserted last and appears at the top (since list is ordered by id DESC)
-            for (int i = lines.size() - 1; i >= startIndex; i--) {
-                String l = lines.get(i);
-                String[] parts = l.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1);
-                if (parts.length >= 2) {
-                    String german = unescapeCsv(parts[0]);
-                    String meaning = unescapeCsv(parts[1]);
-                    String example = parts.length > 2 ? unescapeCsv(parts[2]) : "";
-                    String category = parts.length > 3 ? unescapeCsv(parts[3]) : "";
-
-                    if (!db.isDuplicateWord(german)) {
-                        db.addWord(german, meaning, example, category);
-                        count++;
+                // Backwards, so the top word in the CSV is inserted last and appears at the top (the list is ordered by id DESC)
+                List<String[]> rows = new ArrayList<>();
+                for (int i = lines.size() - 1; i >= startIndex; i--) {
+                    String[] parts = WordCsv.split(lines.get(i));
+                    if (parts.length >= 2) {
+                        rows.add(new String[]{
+                                WordCsv.unescape(parts[0]),
+                                WordCsv.unescape(parts[1]),
+                                parts.length > 2 ? WordCsv.unescape(parts[2]) : "",
+                                parts.length > 3 ? WordCsv.unescape(parts[3]) : ""
+                        });
                     }
                 }
+                int count = db.importWords(rows);
+
+                // Conjugate imported verbs in the background
+                if (count > 0) ConjugationJob.backfill(app, null);
+                message = "Imported " + count + " new words!";
+            } catch (Exception e) {
+                message = "Import failed: " + e.getMessage();
             }
+            String result = message;
+            mainHandler.post(() -> Toast.makeText(app, result, Toast.LENGTH_SHORT).show());
+        });
+    }
 
-            Toast.makeText(this, "Imported " + count + " new words!", Toast.LENGTH_SHORT).show();
-        } catch (Exception e) {
-            Toast.makeText(this, "Import failed: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+    // Loaded once per process from the bundled asset
+    private static synchronized WordClassifier getClassifier(Context context) {
+        if (classifier == null) {
+            try (InputStream in = context.getAssets().open("word_classes.txt")) {
+                classifier = WordClassifier.load(in);
+            } catch (IOException e) {
+                return null;
+            }
         }
+        return classifier;
     }
 
-    private String escapeCsv(String str) {
-        if (str == null) return "";
-        if (str.contains(",") || str.contains("\"") || str.contains("\n")) {
-            return "\"" + str.replace("\"", "\"\"") + "\"";
+    // Mapped once per process; stored uncompressed in the APK so no copy is made
+    private static synchronized OfflineDictionary getDictionary(Context context) {
+        if (dictionary == null) {
+            try (AssetFileDescriptor fd = context.getAssets().openFd("dictionary.dict");
+                 FileInputStream in = fd.createInputStream()) {
+                dictionary = OfflineDictionary.map(in.getChannel(), fd.getStartOffset(), fd.getLength());
+            } catch (IOException e) {
+                return null;
+            }
         }
-        return str;
+        return dictionary;
     }
 
-    private String unescapeCsv(String str) {
-        if (str.startsWith("\"") && str.endsWith("\"")) {
-            str = str.substring(1, str.length() - 1);
-            return str.replace("\"\"", "\"");
+    private void updateMeaningSuggestions(String text) {
+        OfflineDictionary d = getDictionary(this);
+        if (d == null) return;
+
+        meaningAdapter.clear();
+        for (OfflineDictionary.Entry entry : d.complete(text, MEANING_SUGGESTIONS)) {
+            if (meaningAdapter.getPosition(entry.meaning) < 0) meaningAdapter.add(entry.meaning);
+        }
+
+        // Fill in the meaning of an exact match, but never over something the user typed
+        String current = inputMeaning.getText().toString();
+        if (!current.isEmpty() && !current.equals(autoMeaning)) return;
+        List<OfflineDictionary.Entry> exact = d.lookup(text);
+        autoMeaning = exact.isEmpty() ? null : exact.get(0).meaning;
+        inputMeaning.setText(autoMeaning != null ? autoMeaning : "", false);
+    }
+
+    private WordClassifier.Prediction predict(String germanWord) {
+        WordClassifier c = getClassifier(this);
+        return c != null ? c.predict(germanWord) : null;
+    }
+
+    private void updateSuggestion(String text) {
+        WordClassifier.Prediction p = predict(text);
+        if (p == null || p.fromArticle || (p.gender == null && WordClassifier.NOUN.equals(p.partOfSpeech))) {
+            articleSuggestion.setVisibility(View.GONE);
+            articleSuggestion.setOnClickListener(null);
+            return;
+        }
+
+        articleSuggestion.setVisibility(View.VISIBLE);
+        if (p.gender == null) {
+            articleSuggestion.setText(p.partOfSpeech);
+            articleSuggestion.setTextColor(ContextCompat.getColor(this, R.color.text_secondary));
+            articleSuggestion.setOnClickListener(null);
+            return;
+        }
+
+        String withArticle = p.gender.article + " " + text.trim();
+        articleSuggestion.setText(withArticle + "?");
+        articleSuggestion.setTextColor(ContextCompat.getColor(this, articleColor(p.gender)));
+        articleSuggestion.setOnClickListener(v -> {
+            inputGermanWord.setText(withArticle);
+            inputGermanWord.setSelection(withArticle.length());
+        });
+    }
+
+    private static int articleColor(Gender gender) {
+        switch (gender) {
+            case MASCULINE: return R.color.blue_primary;
+            case FEMININE: return R.color.red_primary;
+            default: return R.color.green_primary;
         }
-        return str;
     }
 
     private void saveWord() {
@@ -198,12 +321,9 @@ public class AddWordActivity extends AppCompatActivity {
         String meaning = inputMeaning.getText().toString().trim();
         String example = inputExample.getText().toString().trim();
         
-        // Auto-assign category Nomen if it starts with der/die/das
-        String lowerWord = germanWord.toLowerCase();
-        String partOfSpeech = "General";
-        if (lowerWord.startsWith("der ") || lowerWord.startsWith("die ") || lowerWord.startsWith("das ")) {
-            partOfSpeech = "Nomen";
-        }
+        // Auto-assign category: Nomen for der/die/das, otherwise guessed from the ending when sure
+        WordClassifier.Prediction prediction = predict(germanWord);
+        String partOfSpeech = prediction != null && prediction.confident ? prediction.partOfSpeech : "General";
 
         // Validate
         if (germanWord.isEmpty() || meaning.isEmpty()) {
@@ -211,27 +331,40 @@ public class AddWordActivity extends AppCompatActivity {
             return;
         }
 
-        // Check duplicate
-        if (db.isDuplicateWord(germanWord)) {
-            errorMessage.setText(String.format(getString(R.string.duplicate_error), germanWord));
-            errorMessage.setVisibility(View.VISIBLE);
-            return;
-        }
-
-        // Save
-        db.addWord(germanWord, meaning, example, partOfSpeech);
-        db.updateStreak();
-
-        // Clear form
-        inputGermanWord.setText("");
-        inputMeaning.setText("");
-        inputExample.setText("");
-        errorMessage.setVisibility(View.GONE);
-
-        Toast.makeText(this, "Word added!", Toast.LENGTH_SHORT).show();
-
-        // Focus back to first input
-        inputGermanWord.requestFocus();
+        // Check duplicate and save on the worker; the form is cleared once the word is in
+        Context app = getApplicationContext();
+        submitBtn.setEnabled(false); // no second insert while this one runs
+        importExecutor.execute(() -> {
+            boolean duplicate = db.isDuplicateWord(germanWord);
+            if (!duplicate) {
+                long wordId = db.addWord(germanWord, meaning, example, partOfSpeech);
+                if (wordId != -1 && ConjugationJob.isVerb(partOfSpeech)) {
+                    ConjugationJob.enqueue(app, (int) wordId, germanWord);
+                }
+                db.updateStreak();
+            }
+            mainHandler.post(() -> {
+                if (duplicate) {
+                    if (isDestroyed()) return;
+                    submitBtn.setEnabled(true);
+                    errorMessage.setText(String.format(getString(R.string.duplicate_error), germanWord));
+                    errorMessage.setVisibility(View.VISIBLE);
+                    return;
+                }
+                Toast.makeText(app, "Word added!", Toast.LENGTH_SHORT).show();
+                if (isDestroyed()) return;
+                submitBtn.setEnabled(true);
+
+                // Clear form
+                inputGermanWord.setText("");
+                inputMeaning.setText("");
+                inputExample.setText("");
+                errorMessage.setVisibility(View.GONE);
+
+                // Focus back to first input
+                inputGermanWord.requestFocus();
+            });
+        });
     }
 
     private void setupBottomNav() {
@@ -271,4 +404,11 @@ public class AddWordActivity extends AppCompatActivity {
         super.onBackPressed();
         overridePendingTransition(R.anim.slide_in_left, R.anim.slide_out_right);
     }
+
+    @Override
+    protected void onDestroy() {
+        // An import already started still finishes; shutdown only stops the thread afterwards
+        importExecutor.shutdown();
+        super.onDestroy();
+    }
 }
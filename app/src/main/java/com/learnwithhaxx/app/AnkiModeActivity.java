@@ -1,7 +1,6 @@
 package com.learnwithhaxx.app;
 
 import android.os.Bundle;
-import android.speech.tts.TextToSpeech;
 import android.text.SpannableString;
 import android.text.Spanned;
 import android.text.style.ForegroundColorSpan;
@@ -13,6 +12,8 @@ import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.content.ContextCompat;
 
+import com.learnwithhaxx.core.Word;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -20,7 +21,7 @@ import java.util.Locale;
 public class AnkiModeActivity extends AppCompatActivity {
 
     private DatabaseHelper db;
-    private TextToSpeech tts;
+    private Speech speech;
     private List<Word> words;
     private int currentIndex = 0;
 
@@ -52,11 +53,7 @@ public class AnkiModeActivity extends AppCompatActivity {
 
         findViewById(R.id.backBtn).setOnClickListener(v -> finish());
 
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.GERMAN);
-            }
-        });
+        speech = Speech.getInstance(this);
 
         loadWords();
         updateLevelStats();
@@ -144,17 +141,12 @@ public class AnkiModeActivity extends AppCompatActivity {
     }
 
     private void speakGerman(String word) {
-        if (tts != null) {
-            tts.speak(word, TextToSpeech.QUEUE_FLUSH, null, "anki_pronunciation");
-        }
+        speech.speak(word, Locale.GERMAN, "anki_pronunciation");
     }
 
     @Override
     protected void onDestroy() {
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
+        speech.stop("anki_pronunciation");
         super.onDestroy();
     }
 }
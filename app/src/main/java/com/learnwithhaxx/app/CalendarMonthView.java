@@ -0,0 +1,173 @@
+package com.learnwithhaxx.app;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.MotionEvent;
+import android.view.View;
+
+import com.learnwithhaxx.core.StreakCalculator;
+
+/**
+ * One month of the streak calendar, drawn in a single pass: a 7 x 6 grid of rounded cells
+ * shaded by activity level, with today outlined. Paging to another month is a
+ * {@link #setMonth} and one invalidate; taps are mapped back to a day by position.
+ */
+public class CalendarMonthView extends View {
+
+    public interface OnDayClickListener {
+        void onDayClick(int day, int count);
+    }
+
+    private static final int COLUMNS = 7;
+    private static final int ROWS = 6; // always 6 rows so the card keeps its height
+
+    private static final int TODAY_FILL = Color.WHITE;
+    private static final int TODAY_STROKE = 0xFF39D353;
+    private static final int ACTIVE_STROKE = 0x14000000;
+    private static final int EMPTY_STROKE = 0xFFE0E0E0;
+
+    // Day labels are drawn every frame, so they are made once
+    private static final String[] DAY_LABELS = new String[32];
+    static {
+        for (int i = 1; i < DAY_LABELS.length; i++) DAY_LABELS[i] = String.valueOf(i);
+    }
+
+    private final Paint fillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint strokePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF cell = new RectF();
+
+    private float cellSize, gap, radius, thinStroke, todayStroke;
+    private int[] levelColors = new int[0];
+
+    private int[] counts = new int[0]; // counts[day - 1]
+    private int firstDow;              // column of day 1, 0 = Sunday
+    private int today;                 // day of month to outline, 0 if not in this month
+    private OnDayClickListener listener;
+
+    public CalendarMonthView(Context context) {
+        super(context);
+        init();
+    }
+
+    public CalendarMonthView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    private void init() {
+        float density = getResources().getDisplayMetrics().density;
+        cellSize = 36 * density;
+        gap = 4 * density;
+        radius = 6 * density;
+        thinStroke = (int) density;
+        todayStroke = (int) (2 * density);
+
+        fillPaint.setStyle(Paint.Style.FILL);
+        strokePaint.setStyle(Paint.Style.STROKE);
+        textPaint.setColor(0xFF000000);
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        textPaint.setTypeface(Typeface.DEFAULT_BOLD);
+        textPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, 12, getResources().getDisplayMetrics()));
+    }
+
+    /** Shade for each level from {@link StreakCalculator#levelFromCount}, lightest first. */
+    public void setLevelColors(int[] colors) {
+        levelColors = colors;
+        invalidate();
+    }
+
+    public void setMonth(int[] counts, int firstDow, int today) {
+        this.counts = counts;
+        this.firstDow = firstDow;
+        this.today = today;
+        invalidate();
+    }
+
+    public void setOnDayClickListener(OnDayClickListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = (int) Math.ceil(COLUMNS * (cellSize + gap)) + getPaddingLeft() + getPaddingRight();
+        int height = (int) Math.ceil(ROWS * (cellSize + gap)) + getPaddingTop() + getPaddingBottom();
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        // Vertical centre of the digits inside a cell
+        float textOffset = -(textPaint.ascent() + textPaint.descent()) / 2f;
+
+        for (int day = 1; day <= counts.length; day++) {
+            cellBounds(firstDow + day - 1, cell);
+            int level = StreakCalculator.levelFromCount(counts[day - 1]);
+
+            int fill, stroke;
+            float strokeWidth;
+            if (day == today) {
+                fill = TODAY_FILL;
+                stroke = TODAY_STROKE;
+                strokeWidth = todayStroke;
+            } else {
+                fill = level < levelColors.length ? levelColors[level] : Color.TRANSPARENT;
+                stroke = level > 0 ? ACTIVE_STROKE : EMPTY_STROKE;
+                strokeWidth = thinStroke;
+            }
+
+            fillPaint.setColor(fill);
+            canvas.drawRoundRect(cell, radius, radius, fillPaint);
+            strokePaint.setColor(stroke);
+            strokePaint.setStrokeWidth(strokeWidth);
+            // Inset by half the stroke so it sits inside the cell like a drawable's border
+            float inset = strokeWidth / 2f;
+            cell.inset(inset, inset);
+            canvas.drawRoundRect(cell, radius, radius, strokePaint);
+
+            canvas.drawText(DAY_LABELS[day], cell.centerX(), cell.centerY() + textOffset, textPaint);
+        }
+    }
+
+    private void cellBounds(int index, RectF out) {
+        float left = getPaddingLeft() + (index % COLUMNS) * (cellSize + gap) + gap / 2f;
+        float top = getPaddingTop() + (index / COLUMNS) * (cellSize + gap) + gap / 2f;
+        out.set(left, top, left + cellSize, top + cellSize);
+    }
+
+    /** Day under the point, or 0 for the gaps and the cells outside the month. */
+    private int dayAt(float x, float y) {
+        float step = cellSize + gap;
+        int column = (int) ((x - getPaddingLeft()) / step);
+        int row = (int) ((y - getPaddingTop()) / step);
+        if (x < getPaddingLeft() || y < getPaddingTop() || column >= COLUMNS || row >= ROWS) return 0;
+        cellBounds(row * COLUMNS + column, cell);
+        if (!cell.contains(x, y)) return 0;
+        int day = row * COLUMNS + column - firstDow + 1;
+        return day >= 1 && day <= counts.length ? day : 0;
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                return dayAt(event.getX(), event.getY()) > 0;
+            case MotionEvent.ACTION_UP:
+                int day = dayAt(event.getX(), event.getY());
+                if (day > 0) {
+                    performClick();
+                    if (listener != null) listener.onDayClick(day, counts[day - 1]);
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.learnwithhaxx.app;
+
+import android.media.AudioAttributes;
+import android.media.AudioFormat;
+import android.media.AudioTrack;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+
+import com.learnwithhaxx.core.WavClip;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Plays short WAV clips from disk with a static AudioTrack: the samples are handed over
+ * whole before play(), so sound starts without buffering. Clips are read and tracks driven
+ * on a player thread; callbacks arrive on the main thread.
+ */
+public class ClipPlayer {
+
+    public static final int PLAYED = 0;
+    public static final int STOPPED = 1;
+    public static final int FAILED = 2; // unreadable or unplayable; the caller can fall back
+
+    public interface Callback {
+        void onStarted();
+
+        void onDone(int result);
+    }
+
+    // Static tracks live in shared memory, so longer clips are left to the engine
+    private static final int MAX_CLIP_BYTES = 1024 * 1024;
+
+    private final Handler worker;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // Player thread only
+    private byte[] buffer = new byte[64 * 1024];
+    private AudioTrack track;
+    private Callback current;
+
+    public ClipPlayer() {
+        HandlerThread thread = new HandlerThread("clip-player");
+        thread.start();
+        worker = new Handler(thread.getLooper());
+    }
+
+    /** Stops whatever is playing and plays the clip. */
+    public void play(File file, Callback callback) {
+        worker.post(() -> {
+            release(STOPPED);
+            start(file, callback);
+        });
+    }
+
+    public void stop() {
+        worker.post(() -> release(STOPPED));
+    }
+
+    private void start(File file, Callback callback) {
+        WavClip clip = read(file);
+        if (clip == null || clip.channels > 2) {
+            mainHandler.post(() -> callback.onDone(FAILED));
+            return;
+        }
+
+        AudioTrack t;
+        try {
+            t = new AudioTrack.Builder()
+                    .setAudioAttributes(new AudioAttributes.Builder()
+                            .setUsage(AudioAttributes.USAGE_MEDIA)
+                            .setContentType(AudioAttributes.CONTENT_TYPE_SPEECH)
+                            .build())
+                    .setAudioFormat(new AudioFormat.Builder()
+                            .setSampleRate(clip.sampleRate)
+                            .setEncoding(clip.bitsPerSample == 16 ? AudioFormat.ENCODING_PCM_16BIT : AudioFormat.ENCODING_PCM_8BIT)
+                            .setChannelMask(clip.channels == 1 ? AudioFormat.CHANNEL_OUT_MONO : AudioFormat.CHANNEL_OUT_STEREO)
+                            .build())
+                    .setTransferMode(AudioTrack.MODE_STATIC)
+                    .setBufferSizeInBytes(clip.dataLength)
+                    .build();
+            t.write(buffer, clip.dataOffset, clip.dataLength);
+        } catch (RuntimeException e) {
+            mainHandler.post(() -> callback.onDone(FAILED));
+            return;
+        }
+
+        t.setNotificationMarkerPosition(clip.frames());
+        t.setPlaybackPositionUpdateListener(new AudioTrack.OnPlaybackPositionUpdateListener() {
+            @Override
+            public void onMarkerReached(AudioTrack reached) {
+                if (reached == track) release(PLAYED);
+            }
+
+            @Override
+            public void onPeriodicNotification(AudioTrack ignored) {
+            }
+        }, worker);
+
+        track = t;
+        current = callback;
+        t.play();
+        mainHandler.post(callback::onStarted);
+    }
+
+    private WavClip read(File file) {
+        long size = file.length();
+        if (size <= 0 || size > MAX_CLIP_BYTES) return null;
+        if (buffer.length < size) buffer = new byte[(int) size];
+        try (FileInputStream in = new FileInputStream(file)) {
+            int length = 0;
+            while (length < size) {
+                int n = in.read(buffer, length, (int) size - length);
+                if (n < 0) break;
+                length += n;
+            }
+            return WavClip.parse(buffer, length);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void release(int result) {
+        if (track == null) return;
+        track.stop();
+        track.release();
+        track = null;
+        Callback callback = current;
+        current = null;
+        mainHandler.post(() -> callback.onDone(result));
+    }
+}
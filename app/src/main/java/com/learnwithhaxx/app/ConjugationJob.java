@@ -0,0 +1,76 @@
+package com.learnwithhaxx.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.learnwithhaxx.core.Conjugator;
+import com.learnwithhaxx.core.Word;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Generates every tense for newly added or imported verbs on a background thread
+ * and stores them in the conjugations table, so the verb screen only reads rows.
+ */
+public final class ConjugationJob {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+    private static final Handler MAIN = new Handler(Looper.getMainLooper());
+
+    private ConjugationJob() {}
+
+    public static boolean isVerb(String partOfSpeech) {
+        return partOfSpeech != null && partOfSpeech.toLowerCase().contains("verb");
+    }
+
+    public static void enqueue(Context context, int wordId, String germanWord) {
+        DatabaseHelper db = DatabaseHelper.getInstance(context);
+        EXECUTOR.execute(() -> store(db, wordId, germanWord));
+    }
+
+    /**
+     * Conjugates every verb that has no stored rows yet (imports, upgrades, seed data).
+     * onStored runs on the main thread, and only if something was written.
+     */
+    public static void backfill(Context context, Runnable onStored) {
+        DatabaseHelper db = DatabaseHelper.getInstance(context);
+        EXECUTOR.execute(() -> {
+            if (storeMissing(db) > 0 && onStored != null) {
+                MAIN.post(onStored);
+            }
+        });
+    }
+
+    /**
+     * Same as backfill, but on the caller's worker thread; returns how many verbs were stored.
+     * Callers are serialized, so a verb picked up by one is never conjugated again by another.
+     */
+    public static synchronized int storeMissing(DatabaseHelper db) {
+        List<Word> pending = db.getVerbsWithoutConjugations();
+        for (Word word : pending) {
+            store(db, word.getId(), word.getGermanWord());
+        }
+        return pending.size();
+    }
+
+    /** Every tense of the verb, indexed by Tense ordinal, or null if it can't be analysed. */
+    public static Conjugator.Conjugation[] conjugate(String germanWord) {
+        Conjugator.Verb verb = Conjugator.analyze(germanWord);
+        if (verb == null) return null;
+
+        Conjugator.Tense[] tenses = Conjugator.Tense.values();
+        Conjugator.Conjugation[] forms = new Conjugator.Conjugation[tenses.length];
+        for (Conjugator.Tense tense : tenses) {
+            forms[tense.ordinal()] = verb.get(tense);
+        }
+        return forms;
+    }
+
+    private static synchronized void store(DatabaseHelper db, int wordId, String germanWord) {
+        Conjugator.Conjugation[] forms = conjugate(germanWord);
+        if (forms != null) db.saveConjugations(wordId, forms);
+    }
+}
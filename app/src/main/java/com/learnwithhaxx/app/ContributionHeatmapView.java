@@ -0,0 +1,120 @@
+package com.learnwithhaxx.app;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.View;
+
+import com.learnwithhaxx.core.ContributionHistory;
+
+/**
+ * GitHub-style contribution heatmap: a column per week, Sunday on top, month labels above.
+ * All cells are drawn in one pass from the history's level array. Meant to sit in a
+ * HorizontalScrollView; the recorded drawing is reused while scrolling, and only the
+ * columns inside the clip are drawn when it has to be redrawn.
+ */
+public class ContributionHeatmapView extends View {
+
+    private static final String[] MONTHS_SHORT = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+
+    private final Paint cellPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint labelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF cell = new RectF();
+    private final Rect clip = new Rect();
+
+    private float cellSize, gap, radius, labelHeight;
+    private int[] levelColors = new int[0];
+    private ContributionHistory history;
+
+    // Year labels ("2025") replace "Jan"; made when the history is set, not while drawing
+    private String[] weekLabels = new String[0];
+
+    public ContributionHeatmapView(Context context) {
+        super(context);
+        init();
+    }
+
+    public ContributionHeatmapView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    private void init() {
+        float density = getResources().getDisplayMetrics().density;
+        cellSize = 10 * density;
+        gap = 3 * density;
+        radius = 2 * density;
+        labelHeight = 14 * density;
+
+        cellPaint.setStyle(Paint.Style.FILL);
+        labelPaint.setColor(0xFF57606A);
+        labelPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, 9, getResources().getDisplayMetrics()));
+    }
+
+    /** Shade for each level, lightest (no activity) first. */
+    public void setLevelColors(int[] colors) {
+        levelColors = colors;
+        invalidate();
+    }
+
+    public void setHistory(ContributionHistory history) {
+        boolean resized = this.history == null || this.history.weeks() != history.weeks();
+        this.history = history;
+
+        weekLabels = new String[history.weeks()];
+        for (int week = 0; week < weekLabels.length; week++) {
+            int month = history.monthStartingIn(week);
+            if (month == 0) weekLabels[week] = String.valueOf(history.yearOf(week));
+            else if (month > 0) weekLabels[week] = MONTHS_SHORT[month];
+        }
+
+        if (resized) requestLayout();
+        invalidate();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int weeks = history != null ? history.weeks() : 0;
+        int width = (int) Math.ceil(weeks * (cellSize + gap)) + getPaddingLeft() + getPaddingRight();
+        int height = (int) Math.ceil(labelHeight + 7 * (cellSize + gap)) + getPaddingTop() + getPaddingBottom();
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (history == null) return;
+
+        float step = cellSize + gap;
+        float left = getPaddingLeft() + gap / 2f;
+        float top = getPaddingTop() + labelHeight;
+
+        int firstWeek = 0, lastWeek = history.weeks() - 1;
+        if (canvas.getClipBounds(clip)) {
+            firstWeek = Math.max(firstWeek, (int) ((clip.left - left) / step) - 1);
+            lastWeek = Math.min(lastWeek, (int) ((clip.right - left) / step) + 1);
+        }
+
+        for (int week = firstWeek; week <= lastWeek; week++) {
+            float x = left + week * step;
+            String label = weekLabels[week];
+            if (label != null) canvas.drawText(label, x, top - gap - labelPaint.descent(), labelPaint);
+
+            for (int dow = 0; dow < 7; dow++) {
+                int level = history.level(week, dow);
+                if (level < 0) break;
+                if (level >= levelColors.length) continue;
+                float y = top + dow * step;
+                cell.set(x, y, x + cellSize, y + cellSize);
+                cellPaint.setColor(levelColors[level]);
+                canvas.drawRoundRect(cell, radius, radius, cellPaint);
+            }
+        }
+    }
+}
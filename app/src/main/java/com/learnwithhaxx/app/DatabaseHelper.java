@@ -5,28 +5,60 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.util.SparseArray;
+
+import com.learnwithhaxx.core.CompoundSplitter;
+import com.learnwithhaxx.core.Conjugator;
+import com.learnwithhaxx.core.ContributionHistory;
+import com.learnwithhaxx.core.FuzzyIndex;
+import com.learnwithhaxx.core.Gender;
+import com.learnwithhaxx.core.InflectedForms;
+import com.learnwithhaxx.core.PracticeSelector;
+import com.learnwithhaxx.core.PracticeSource;
+import com.learnwithhaxx.core.SearchKeys;
+import com.learnwithhaxx.core.StreakCalculator;
+import com.learnwithhaxx.core.User;
+import com.learnwithhaxx.core.Word;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
-public class DatabaseHelper extends SQLiteOpenHelper {
+public class DatabaseHelper extends SQLiteOpenHelper implements PracticeSource {
 
     private static final String DATABASE_NAME = "vocab.db";
-    private static final int DATABASE_VERSION = 3;
+    private static final int DATABASE_VERSION = 8;
 
     private static final String TABLE_USERS = "users";
     private static final String TABLE_WORDS = "words";
     private static final String TABLE_STREAK_DATES = "streak_dates";
+    private static final String TABLE_CONJUGATIONS = "conjugations";
+    private static final String TABLE_INFLECTIONS = "inflections";
+
+    // Column per person, in Conjugation.get(person) order
+    private static final String[] CONJUGATION_COLUMNS = {"ich", "du", "er_sie_es", "wir", "ihr", "sie_sie"};
+
+    // Oldest activity the heatmap reaches back to
+    private static final int MAX_HISTORY_DAYS = 10 * 366;
 
     private static DatabaseHelper instance;
 
+    private final Random random = new Random();
+
+    // Base lexicon plus every word in the deck; built on first use
+    private CompoundSplitter splitter;
+    // Typo-tolerant lookup over folded keys; built on first search, then kept in step
+    private FuzzyIndex fuzzyIndex;
+
     public static synchronized DatabaseHelper getInstance(Context context) {
         if (instance == null) {
             instance = new DatabaseHelper(context.getApplicationContext());
@@ -55,6 +87,9 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 "part_of_speech TEXT, " +
                 "date_added TEXT NOT NULL, " +
                 "level INTEGER DEFAULT 0, " +
+                "search_key TEXT, " +
+                "gender TEXT, " +
+                "bare_word TEXT, " +
                 "FOREIGN KEY (user_id) REFERENCES users(id))");
 
         db.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_STREAK_DATES + " (" +
@@ -65,12 +100,41 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 "FOREIGN KEY (user_id) REFERENCES users(id), " +
                 "UNIQUE(user_id, active_date))");
 
+        createConjugationsTable(db);
+
         ContentValues cv = new ContentValues();
         cv.put("name", "Learner");
         cv.put("streak", 0);
         db.insert(TABLE_USERS, null, cv);
 
         seedDefaultWords(db);
+
+        createInflectionsTable(db);
+        reindexAllWords(db);
+    }
+
+    private void createConjugationsTable(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_CONJUGATIONS + " (" +
+                "word_id INTEGER NOT NULL, " +
+                "tense TEXT NOT NULL, " +
+                "ich TEXT, " +
+                "du TEXT, " +
+                "er_sie_es TEXT, " +
+                "wir TEXT, " +
+                "ihr TEXT, " +
+                "sie_sie TEXT, " +
+                "edited INTEGER DEFAULT 0, " +
+                "PRIMARY KEY (word_id, tense), " +
+                "FOREIGN KEY (word_id) REFERENCES words(id))");
+    }
+
+    // Inverted index: surface form -> word id. Keyed on (form, word_id) without a rowid,
+    // so the table is its own index and a search is one probe.
+    private void createInflectionsTable(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_INFLECTIONS + " (" +
+                "form TEXT NOT NULL, " +
+                "word_id INTEGER NOT NULL, " +
+                "PRIMARY KEY (form, word_id)) WITHOUT ROWID");
     }
 
     private void seedDefaultWords(SQLiteDatabase db) {
@@ -91,9 +155,34 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         cv.put("part_of_speech", pos);
         cv.put("date_added", date);
         cv.put("level", 0);
+        putDerived(cv, german, meaning);
         db.insert(TABLE_WORDS, null, cv);
     }
 
+    // Search key, article and bare noun are worked out once here instead of on every filter and bind
+    private static void putDerived(ContentValues cv, String german, String meaning) {
+        Gender gender = Gender.ofWord(german);
+        cv.put("search_key", SearchKeys.searchKey(german, meaning));
+        cv.put("gender", gender != null ? gender.article : null);
+        cv.put("bare_word", SearchKeys.stripArticle(german));
+    }
+
+    private void fillDerivedColumns(SQLiteDatabase db) {
+        Cursor c = db.rawQuery("SELECT id, german_word, meaning FROM " + TABLE_WORDS, null);
+        db.beginTransaction();
+        try {
+            while (c.moveToNext()) {
+                ContentValues cv = new ContentValues();
+                putDerived(cv, c.getString(1), c.getString(2));
+                db.update(TABLE_WORDS, cv, "id = ?", new String[]{String.valueOf(c.getInt(0))});
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+            c.close();
+        }
+    }
+
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
         if (oldVersion < 2) {
@@ -102,6 +191,22 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         if (oldVersion < 3) {
             db.execSQL("ALTER TABLE " + TABLE_WORDS + " ADD COLUMN level INTEGER DEFAULT 0");
         }
+        if (oldVersion < 4) {
+            createConjugationsTable(db);
+        }
+        if (oldVersion < 5) {
+            createInflectionsTable(db);
+        }
+        if (oldVersion < 7) {
+            // Version 6 added declined noun forms to the index, version 7 compound parts
+            reindexAllWords(db);
+        }
+        if (oldVersion < 8) {
+            db.execSQL("ALTER TABLE " + TABLE_WORDS + " ADD COLUMN search_key TEXT");
+            db.execSQL("ALTER TABLE " + TABLE_WORDS + " ADD COLUMN gender TEXT");
+            db.execSQL("ALTER TABLE " + TABLE_WORDS + " ADD COLUMN bare_word TEXT");
+            fillDerivedColumns(db);
+        }
     }
 
     public User getUser() {
@@ -121,7 +226,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         String yesterday = getYesterday();
         String lastActive = user.getLastActiveDate();
 
-        if (lastActive != null && !lastActive.equals(today) && !lastActive.equals(yesterday)) {
+        if (StreakCalculator.isBroken(lastActive, today, yesterday)) {
             user.setStreak(0);
             SQLiteDatabase wdb = getWritableDatabase();
             ContentValues cv = new ContentValues();
@@ -151,54 +256,50 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     }
 
     public List<Word> getWordsForPractice(int limit) {
-        List<Word> practiceWords = new ArrayList<>();
-        SQLiteDatabase db = getReadableDatabase();
-        
-        // 1. First Priority: Get NEW words (level 0)
-        Cursor cNew = db.rawQuery("SELECT * FROM " + TABLE_WORDS + " WHERE level = 0 ORDER BY RANDOM() LIMIT " + limit, null);
-        if (cNew.getCount() > 0) {
-            while (cNew.moveToNext()) {
-                practiceWords.add(cursorToWord(cNew));
-            }
-            cNew.close();
-            return practiceWords; // Only show new words until they are all gone
-        }
-        cNew.close();
-
-        // 2. Second Priority (Review Phase): 80% Hard (1) and 20% Easy (2)
-        int hardLimit = (int) (limit * 0.8);
-        int easyLimit = limit - hardLimit;
-
-        Cursor cHard = db.rawQuery("SELECT * FROM " + TABLE_WORDS + " WHERE level = 1 ORDER BY RANDOM() LIMIT " + hardLimit, null);
-        while (cHard.moveToNext()) {
-            practiceWords.add(cursorToWord(cHard));
-        }
-        cHard.close();
-
-        Cursor cEasy = db.rawQuery("SELECT * FROM " + TABLE_WORDS + " WHERE level = 2 ORDER BY RANDOM() LIMIT " + easyLimit, null);
-        while (cEasy.moveToNext()) {
-            practiceWords.add(cursorToWord(cEasy));
-        }
-        cEasy.close();
-
-        // If limits didn't fill up (e.g. not enough Easy words), fill with any categorized words
-        if (practiceWords.size() < limit) {
-            Cursor cRemaining = db.rawQuery("SELECT * FROM " + TABLE_WORDS + " WHERE level > 0 ORDER BY RANDOM() LIMIT " + (limit - practiceWords.size()), null);
-            while (cRemaining.moveToNext()) {
-                Word w = cursorToWord(cRemaining);
-                boolean exists = false;
-                for (Word existing : practiceWords) {
-                    if (existing.getId() == w.getId()) {
-                        exists = true;
-                        break;
-                    }
-                }
-                if (!exists) practiceWords.add(w);
-            }
-            cRemaining.close();
+        return PracticeSelector.select(this, limit);
+    }
+
+    @Override
+    public List<Word> randomWordsAtLevel(int level, int limit) {
+        return queryWords("SELECT * FROM " + TABLE_WORDS + " WHERE level = " + level + " ORDER BY RANDOM() LIMIT " + limit);
+    }
+
+    @Override
+    public List<Word> randomReviewedWords(int limit) {
+        return queryWords("SELECT * FROM " + TABLE_WORDS + " WHERE level > 0 ORDER BY RANDOM() LIMIT " + limit);
+    }
+
+    /**
+     * {@code n} random words, at the given level or any level if it is negative. Only ids are
+     * scanned; the full rows are read for the chosen few.
+     */
+    public List<Word> sampleWords(int level, int n) {
+        String where = "user_id = 1" + (level >= 0 ? " AND level = " + level : "");
+        Cursor c = getReadableDatabase().rawQuery("SELECT id FROM " + TABLE_WORDS + " WHERE " + where, null);
+        int[] ids = new int[c.getCount()];
+        for (int i = 0; c.moveToNext(); i++) {
+            ids[i] = c.getInt(0);
         }
+        c.close();
+
+        int[] picked = PracticeSelector.sampleIds(ids, n, random);
+        if (picked.length == 0) return new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM " + TABLE_WORDS + " WHERE id IN (");
+        for (int i = 0; i < picked.length; i++) {
+            if (i > 0) sql.append(',');
+            sql.append(picked[i]);
+        }
+        return queryWords(sql.append(')').toString());
+    }
 
-        return practiceWords;
+    private List<Word> queryWords(String sql) {
+        List<Word> words = new ArrayList<>();
+        Cursor c = getReadableDatabase().rawQuery(sql, null);
+        while (c.moveToNext()) {
+            words.add(cursorToWord(c));
+        }
+        c.close();
+        return words;
     }
 
     public long addWord(String germanWord, String meaning, String example, String partOfSpeech) {
@@ -211,7 +312,37 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         cv.put("part_of_speech", partOfSpeech);
         cv.put("date_added", getToday());
         cv.put("level", 0);
-        return db.insert(TABLE_WORDS, null, cv);
+        putDerived(cv, germanWord, meaning);
+        long id = db.insert(TABLE_WORDS, null, cv);
+        if (id != -1) {
+            getSplitter(db).add(germanWord);
+            indexWord(db, (int) id);
+            synchronized (this) {
+                if (fuzzyIndex != null) fuzzyIndex.add((int) id, germanWord);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Adds imported rows (german, meaning, example, category), skipping words already in the
+     * deck, in one transaction. Returns how many were added. Call off the main thread.
+     */
+    public int importWords(List<String[]> rows) {
+        SQLiteDatabase db = getWritableDatabase();
+        int count = 0;
+        db.beginTransaction();
+        try {
+            for (String[] row : rows) {
+                if (!isDuplicateWord(row[0]) && addWord(row[0], row[1], row[2], row[3]) != -1) {
+                    count++;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return count;
     }
 
     public List<Word> getAllWords() {
@@ -249,6 +380,186 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return exists;
     }
 
+    /** Words filed under a verb category, newest first, without loading the rest. */
+    public List<Word> getVerbs() {
+        return queryWords("SELECT * FROM " + TABLE_WORDS + " WHERE user_id = 1 AND part_of_speech LIKE '%verb%' ORDER BY id DESC");
+    }
+
+    public List<Word> getVerbsWithoutConjugations() {
+        List<Word> verbs = new ArrayList<>();
+        SQLiteDatabase db = getReadableDatabase();
+        Cursor c = db.rawQuery("SELECT * FROM " + TABLE_WORDS + " w WHERE user_id = 1 AND part_of_speech LIKE '%verb%' " +
+                "AND NOT EXISTS (SELECT 1 FROM " + TABLE_CONJUGATIONS + " c WHERE c.word_id = w.id)", null);
+        while (c.moveToNext()) {
+            verbs.add(cursorToWord(c));
+        }
+        c.close();
+        return verbs;
+    }
+
+    /** Stores generated forms, indexed by Tense ordinal. Hand-edited rows are kept. */
+    public void saveConjugations(int wordId, Conjugator.Conjugation[] forms) {
+        SQLiteDatabase db = getWritableDatabase();
+        String id = String.valueOf(wordId);
+        db.beginTransaction();
+        try {
+            db.delete(TABLE_CONJUGATIONS, "word_id = ? AND edited = 0", new String[]{id});
+            Conjugator.Tense[] tenses = Conjugator.Tense.values();
+            for (int t = 0; t < forms.length; t++) {
+                if (forms[t] == null) continue;
+                ContentValues cv = new ContentValues();
+                cv.put("word_id", wordId);
+                cv.put("tense", tenses[t].name());
+                for (int p = 0; p < CONJUGATION_COLUMNS.length; p++) {
+                    cv.put(CONJUGATION_COLUMNS[p], forms[t].get(p));
+                }
+                db.insertWithOnConflict(TABLE_CONJUGATIONS, null, cv, SQLiteDatabase.CONFLICT_IGNORE);
+            }
+            indexWord(db, wordId);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /** All stored conjugations: word id -> forms indexed by Tense ordinal (null where none). */
+    public SparseArray<Conjugator.Conjugation[]> getConjugations() {
+        SparseArray<Conjugator.Conjugation[]> result = new SparseArray<>();
+        SQLiteDatabase db = getReadableDatabase();
+        Cursor c = db.rawQuery("SELECT word_id, tense, ich, du, er_sie_es, wir, ihr, sie_sie FROM " + TABLE_CONJUGATIONS, null);
+        int tenseCount = Conjugator.Tense.values().length;
+        while (c.moveToNext()) {
+            Conjugator.Tense tense = parseTense(c.getString(1));
+            if (tense == null) continue;
+            Conjugator.Conjugation[] forms = result.get(c.getInt(0));
+            if (forms == null) {
+                forms = new Conjugator.Conjugation[tenseCount];
+                result.put(c.getInt(0), forms);
+            }
+            forms[tense.ordinal()] = new Conjugator.Conjugation(
+                    c.getString(2), c.getString(3), c.getString(4),
+                    c.getString(5), c.getString(6), c.getString(7));
+        }
+        c.close();
+        return result;
+    }
+
+    /** Hand-corrects one stored form; false if the verb has no stored row for that tense. */
+    public boolean updateConjugationForm(int wordId, Conjugator.Tense tense, int person, String form) {
+        SQLiteDatabase db = getWritableDatabase();
+        ContentValues cv = new ContentValues();
+        cv.put(CONJUGATION_COLUMNS[person], form);
+        cv.put("edited", 1);
+        int updated = db.update(TABLE_CONJUGATIONS, cv, "word_id = ? AND tense = ?", new String[]{String.valueOf(wordId), tense.name()});
+        if (updated == 0) return false;
+        indexWord(db, wordId);
+        return true;
+    }
+
+    /** Ids of words that have this surface form ("läuft" -> laufen). */
+    public Set<Integer> findWordIdsByForm(String query) {
+        Set<Integer> ids = new HashSet<>();
+        String form = InflectedForms.normalize(query);
+        if (form.isEmpty()) return ids;
+        Cursor c = getReadableDatabase().rawQuery("SELECT word_id FROM " + TABLE_INFLECTIONS + " WHERE form = ?", new String[]{form});
+        while (c.moveToNext()) {
+            ids.add(c.getInt(0));
+        }
+        c.close();
+        return ids;
+    }
+
+    // Replaces a word's index entries with its lemma and stored (possibly edited) conjugations
+    private void indexWord(SQLiteDatabase db, int wordId) {
+        String id = String.valueOf(wordId);
+        Cursor w = db.rawQuery("SELECT german_word FROM " + TABLE_WORDS + " WHERE id = ?", new String[]{id});
+        String german = w.moveToFirst() ? w.getString(0) : null;
+        w.close();
+        if (german == null) return;
+
+        Conjugator.Conjugation[] byTense = null;
+        Cursor c = db.rawQuery("SELECT tense, ich, du, er_sie_es, wir, ihr, sie_sie FROM " + TABLE_CONJUGATIONS + " WHERE word_id = ?", new String[]{id});
+        while (c.moveToNext()) {
+            Conjugator.Tense tense = parseTense(c.getString(0));
+            if (tense == null) continue;
+            if (byTense == null) byTense = new Conjugator.Conjugation[Conjugator.Tense.values().length];
+            byTense[tense.ordinal()] = new Conjugator.Conjugation(
+                    c.getString(1), c.getString(2), c.getString(3),
+                    c.getString(4), c.getString(5), c.getString(6));
+        }
+        c.close();
+
+        db.beginTransaction();
+        try {
+            db.delete(TABLE_INFLECTIONS, "word_id = ?", new String[]{id});
+            ContentValues cv = new ContentValues();
+            for (String form : InflectedForms.of(german, byTense, getSplitter(db))) {
+                cv.put("form", form);
+                cv.put("word_id", wordId);
+                db.insertWithOnConflict(TABLE_INFLECTIONS, null, cv, SQLiteDatabase.CONFLICT_IGNORE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /** Words within a few typos of the query, closest first. */
+    public List<FuzzyIndex.Match> findFuzzy(String query) {
+        return getFuzzyIndex().search(query);
+    }
+
+    private synchronized FuzzyIndex getFuzzyIndex() {
+        if (fuzzyIndex == null) {
+            FuzzyIndex index = new FuzzyIndex();
+            Cursor c = getReadableDatabase().rawQuery("SELECT id, german_word FROM " + TABLE_WORDS + " WHERE user_id = 1", null);
+            while (c.moveToNext()) {
+                index.add(c.getInt(0), c.getString(1));
+            }
+            c.close();
+            fuzzyIndex = index;
+        }
+        return fuzzyIndex;
+    }
+
+    /** Lower-case parts of a compound noun, empty if it is not one. */
+    public List<String> splitCompound(String germanWord) {
+        return getSplitter(getReadableDatabase()).split(germanWord);
+    }
+
+    private synchronized CompoundSplitter getSplitter(SQLiteDatabase db) {
+        if (splitter == null) {
+            CompoundSplitter s = CompoundSplitter.withBaseLexicon();
+            Cursor c = db.rawQuery("SELECT german_word FROM " + TABLE_WORDS, null);
+            while (c.moveToNext()) {
+                s.add(c.getString(0));
+            }
+            c.close();
+            splitter = s;
+        }
+        return splitter;
+    }
+
+    private void reindexAllWords(SQLiteDatabase db) {
+        Cursor c = db.rawQuery("SELECT id FROM " + TABLE_WORDS, null);
+        List<Integer> ids = new ArrayList<>();
+        while (c.moveToNext()) {
+            ids.add(c.getInt(0));
+        }
+        c.close();
+        for (int id : ids) {
+            indexWord(db, id);
+        }
+    }
+
+    private static Conjugator.Tense parseTense(String name) {
+        try {
+            return Conjugator.Tense.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private Word cursorToWord(Cursor c) {
         Word w = new Word();
         w.setId(c.getInt(c.getColumnIndexOrThrow("id")));
@@ -259,6 +570,9 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         w.setPartOfSpeech(c.getString(c.getColumnIndexOrThrow("part_of_speech")));
         w.setDateAdded(c.getString(c.getColumnIndexOrThrow("date_added")));
         w.setLevel(c.getInt(c.getColumnIndexOrThrow("level")));
+        w.setDerived(c.getString(c.getColumnIndexOrThrow("search_key")),
+                Gender.fromArticle(c.getString(c.getColumnIndexOrThrow("gender"))),
+                c.getString(c.getColumnIndexOrThrow("bare_word")));
         return w;
     }
 
@@ -272,22 +586,13 @@ public class DatabaseHelper extends SQLiteOpenHelper {
 
         // Check if goal reached (at least 5 words today)
         int todayCount = getTodayWordCount();
-        if (todayCount >= 5) {
+        if (StreakCalculator.isGoalReached(todayCount)) {
             User user = getUser();
-            int currentStreak = user.getStreak();
             String lastActive = user.getLastActiveDate();
+            if (today.equals(lastActive)) return; // Goal already reached and streak updated today
 
-            if (today.equals(lastActive)) {
-                // Goal already reached and streak updated today
-            } else if (yesterday.equals(lastActive)) {
-                // Streak continued
-                currentStreak++;
-                db.execSQL("UPDATE " + TABLE_USERS + " SET streak = ?, last_active_date = ? WHERE id = 1", new Object[]{currentStreak, today});
-            } else {
-                // New streak started
-                currentStreak = 1;
-                db.execSQL("UPDATE " + TABLE_USERS + " SET streak = ?, last_active_date = ? WHERE id = 1", new Object[]{currentStreak, today});
-            }
+            int streak = StreakCalculator.streakAfterGoal(user.getStreak(), lastActive, today, yesterday);
+            db.execSQL("UPDATE " + TABLE_USERS + " SET streak = ?, last_active_date = ? WHERE id = 1", new Object[]{streak, today});
         }
     }
 
@@ -302,6 +607,34 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return dates;
     }
 
+    /**
+     * Heatmap levels from the first active day (at least a year back, at most ten) up to today,
+     * read with one range query over the (user_id, active_date) index.
+     */
+    public ContributionHistory getContributionHistory() {
+        long today = ContributionHistory.epochDay(getToday());
+        long yearAgo = today - 52 * 7;
+        SQLiteDatabase db = getReadableDatabase();
+        Cursor c = db.rawQuery("SELECT active_date, word_count FROM " + TABLE_STREAK_DATES +
+                " WHERE user_id = 1 AND active_date >= ? AND active_date <= ? ORDER BY active_date",
+                new String[]{ContributionHistory.isoDate(today - MAX_HISTORY_DAYS), getToday()});
+
+        // Rows are in date order, so the first one decides how far back the history goes
+        long from = yearAgo;
+        if (c.moveToFirst()) {
+            long first = ContributionHistory.epochDay(c.getString(0));
+            if (first != Long.MIN_VALUE) from = Math.min(from, first);
+        }
+        ContributionHistory history = new ContributionHistory(from, today);
+        if (c.moveToFirst()) {
+            do {
+                history.setCount(c.getString(0), c.getInt(1));
+            } while (c.moveToNext());
+        }
+        c.close();
+        return history;
+    }
+
     public Map<String, Integer> getStreakCounts() {
         Map<String, Integer> counts = new HashMap<>();
         SQLiteDatabase db = getReadableDatabase();
@@ -315,6 +648,21 @@ public class DatabaseHelper extends SQLiteOpenHelper {
 
     private String getToday() { return new SimpleDateFormat("yyyy-MM-dd", Locale.US).format(new Date()); }
     private String getYesterday() { Calendar cal = Calendar.getInstance(); cal.add(Calendar.DAY_OF_YEAR, -1); return new SimpleDateFormat("yyyy-MM-dd", Locale.US).format(cal.getTime()); }
-    public void deleteWord(int wordId) { getWritableDatabase().delete(TABLE_WORDS, "id = ?", new String[]{String.valueOf(wordId)}); }
+    public void deleteWord(int wordId) {
+        SQLiteDatabase db = getWritableDatabase();
+        synchronized (this) {
+            if (fuzzyIndex != null || splitter != null) {
+                Cursor c = db.rawQuery("SELECT german_word FROM " + TABLE_WORDS + " WHERE id = ?", new String[]{String.valueOf(wordId)});
+                if (c.moveToFirst()) {
+                    if (fuzzyIndex != null) fuzzyIndex.remove(wordId, c.getString(0));
+                    if (splitter != null) splitter.remove(c.getString(0));
+                }
+                c.close();
+            }
+        }
+        db.delete(TABLE_CONJUGATIONS, "word_id = ?", new String[]{String.valueOf(wordId)});
+        db.delete(TABLE_INFLECTIONS, "word_id = ?", new String[]{String.valueOf(wordId)});
+        db.delete(TABLE_WORDS, "id = ?", new String[]{String.valueOf(wordId)});
+    }
     public int getTodayWordCount() { SQLiteDatabase db = getReadableDatabase(); Cursor c = db.rawQuery("SELECT COUNT(*) FROM " + TABLE_WORDS + " WHERE date_added = ?", new String[]{getToday()}); int count = 0; if (c.moveToFirst()) count = c.getInt(0); c.close(); return count; }
 }
@@ -1,8 +1,12 @@
 package com.learnwithhaxx.app;
 
 import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Shader;
 import android.util.AttributeSet;
 import android.view.View;
 
@@ -11,6 +15,10 @@ public class GridPatternView extends View {
     private Paint gridPaint;
     private int gridSpacingDp = 24; // slightly smaller grid cells
 
+    // One grid cell, drawn once per density and repeated by the shader
+    private final Paint tilePaint = new Paint();
+    private float tileDensity;
+
     public GridPatternView(Context context) {
         super(context);
         init();
@@ -24,23 +32,44 @@ public class GridPatternView extends View {
     private void init() {
         gridPaint = new Paint();
         // Bright green lines with low opacity (approx 15% opacity)
-        gridPaint.setColor(0x2639D353); 
+        gridPaint.setColor(0x2639D353);
         gridPaint.setStrokeWidth(2f); // thicker lines for "check" feel
         gridPaint.setAntiAlias(true);
     }
 
+    private void buildTile() {
+        float density = getResources().getDisplayMetrics().density;
+        if (density == tileDensity && tilePaint.getShader() != null) return;
+        tileDensity = density;
+
+        int spacing = Math.max(1, Math.round(gridSpacingDp * density));
+        Bitmap tile = Bitmap.createBitmap(spacing, spacing, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(tile);
+        // A line on each edge; half of each 2px line falls inside, so neighbouring tiles join up
+        canvas.drawLine(0, 0, 0, spacing, gridPaint);
+        canvas.drawLine(spacing, 0, spacing, spacing, gridPaint);
+        canvas.drawLine(0, 0, spacing, 0, gridPaint);
+        canvas.drawLine(0, spacing, spacing, spacing, gridPaint);
+        tilePaint.setShader(new BitmapShader(tile, Shader.TileMode.REPEAT, Shader.TileMode.REPEAT));
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        buildTile();
+    }
+
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        buildTile();
+        invalidate();
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
-        float spacing = gridSpacingDp * getResources().getDisplayMetrics().density;
-        
-        // Draw vertical lines
-        for (float x = 0; x <= getWidth(); x += spacing) {
-            canvas.drawLine(x, 0, x, getHeight(), gridPaint);
-        }
-        // Draw horizontal lines
-        for (float y = 0; y <= getHeight(); y += spacing) {
-            canvas.drawLine(0, y, getWidth(), y, gridPaint);
-        }
+        if (tilePaint.getShader() == null) buildTile();
+        canvas.drawPaint(tilePaint);
     }
 }
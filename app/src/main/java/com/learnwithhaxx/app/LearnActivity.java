@@ -4,10 +4,6 @@ import android.content.Intent;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
-import android.speech.tts.TextToSpeech;
-import android.text.SpannableString;
-import android.text.Spanned;
-import android.text.style.ForegroundColorSpan;
 import android.view.View;
 import android.view.animation.AlphaAnimation;
 import android.view.animation.Animation;
@@ -19,27 +15,32 @@ import android.widget.ProgressBar;
 import android.widget.TextView;
 
 import androidx.appcompat.app.AppCompatActivity;
-import androidx.core.content.ContextCompat;
-
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
+import com.learnwithhaxx.core.Word;
+
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class LearnActivity extends AppCompatActivity {
 
     private DatabaseHelper db;
-    private TextToSpeech ttsGerman;
-    private TextToSpeech ttsEnglish;
+    private Speech speech;
+    private SlideshowTimeline timeline;
+    private WordRows rows;
 
-    private List<Word> words;
+    private List<Word> words = new ArrayList<>();
     private int currentIndex = 0;
-    private boolean isPaused = false;
     private boolean shouldShuffle = true;
+    // Set when leaving the screen paused a running slideshow, so coming back resumes it
+    private boolean pausedByLifecycle;
 
-    private Handler autoAdvanceHandler;
-    private Runnable autoAdvanceRunnable;
+    private final ExecutorService loadExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
 
     // Views
     private ProgressBar progressBar;
@@ -82,26 +83,52 @@ public class LearnActivity extends AppCompatActivity {
         pauseBtn.setOnClickListener(v -> togglePause());
         nextBtn.setOnClickListener(v -> nextSlide());
 
-        // Initialize TTS
-        ttsGerman = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                ttsGerman.setLanguage(Locale.GERMAN);
-                ttsEnglish = new TextToSpeech(this, status2 -> {
-                    if (status2 == TextToSpeech.SUCCESS) {
-                        ttsEnglish.setLanguage(Locale.US);
-                        // Ensure UI updates happen on the Main Thread
-                        runOnUiThread(this::initSlideshow);
-                    }
-                });
+        // Speech made before the voices are bound is queued by Speech, so the slideshow can start now
+        speech = Speech.getInstance(this);
+        speech.warmUp(Locale.US);
+        rows = WordRows.getInstance(this);
+        timeline = new SlideshowTimeline(speech, new SlideshowTimeline.Host() {
+            @Override
+            public int slideCount() {
+                return words.size();
+            }
+
+            @Override
+            public void showSlide(int index) {
+                currentIndex = index;
+                showCurrentWord();
+            }
+
+            @Override
+            public String germanText(int index) {
+                return words.get(index).getGermanWord();
+            }
+
+            @Override
+            public String meaningText(int index) {
+                return words.get(index).getMeaning();
+            }
+
+            @Override
+            public void onFinished() {
+                showSessionComplete();
             }
         });
 
-        autoAdvanceHandler = new Handler(Looper.getMainLooper());
         setupBottomNav();
+        loadExecutor.execute(() -> {
+            List<Word> loaded = db.getAllWords();
+            if (shouldShuffle) {
+                Collections.shuffle(loaded);
+            }
+            mainHandler.post(() -> {
+                if (!isDestroyed()) initSlideshow(loaded);
+            });
+        });
     }
 
-    private void initSlideshow() {
-        words = db.getAllWords();
+    private void initSlideshow(List<Word> loaded) {
+        words = loaded;
 
         if (words.isEmpty()) {
             slideWord.setText(R.string.no_words_learn);
@@ -110,22 +137,11 @@ public class LearnActivity extends AppCompatActivity {
             return;
         }
 
-        if (shouldShuffle) {
-            Collections.shuffle(words);
-        }
-
         progressBar.setMax(words.size());
-        updateProgressText();
-        showCurrentWord();
-        startAutoAdvance();
+        timeline.seek(0);
     }
 
     private void showCurrentWord() {
-        if (currentIndex >= words.size()) {
-            showSessionComplete();
-            return;
-        }
-
         Word word = words.get(currentIndex);
 
         // Animation logic
@@ -147,39 +163,17 @@ public class LearnActivity extends AppCompatActivity {
             slideExample.startAnimation(animationSet);
         }
 
-        String german = word.getGermanWord();
-        String lower = german.toLowerCase();
-
-        if (lower.startsWith("der ") || lower.startsWith("die ") || lower.startsWith("das ")) {
-            SpannableString ss = new SpannableString(german);
-            int color;
-            int end = 3; 
-            
-            if (lower.startsWith("der ")) {
-                color = ContextCompat.getColor(this, R.color.blue_primary);
-            } else if (lower.startsWith("die ")) {
-                color = ContextCompat.getColor(this, R.color.red_primary);
-            } else {
-                color = ContextCompat.getColor(this, R.color.green_primary);
-            }
-            
-            ss.setSpan(new ForegroundColorSpan(color), 0, end, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-            slideWord.setText(ss);
-        } else {
-            slideWord.setText(german);
-        }
-
+        slideWord.setText(rows.title(word));
         slideMeaning.setText(word.getMeaning());
         slideExample.setText(word.getExample() != null ? word.getExample() : "");
 
         updateProgressBar();
         updateProgressText();
 
-        // Auto-pronounce after short delay
-        autoAdvanceHandler.postDelayed(() -> {
-            speakGerman(word.getGermanWord());
-            autoAdvanceHandler.postDelayed(() -> speakEnglish(word.getMeaning()), 1000);
-        }, 300);
+        // The next title is built now, so showing it is a cache hit
+        if (currentIndex + 1 < words.size()) {
+            rows.title(words.get(currentIndex + 1));
+        }
     }
 
     private void updateProgressBar() {
@@ -194,55 +188,27 @@ public class LearnActivity extends AppCompatActivity {
         }
     }
 
-    private void startAutoAdvance() {
-        stopAutoAdvance();
-        autoAdvanceRunnable = () -> {
-            if (!isPaused && currentIndex < words.size()) {
-                currentIndex++;
-                showCurrentWord();
-                startAutoAdvance();
-            }
-        };
-        autoAdvanceHandler.postDelayed(autoAdvanceRunnable, 4000);
-    }
-
-    private void stopAutoAdvance() {
-        if (autoAdvanceRunnable != null) {
-            autoAdvanceHandler.removeCallbacks(autoAdvanceRunnable);
-        }
-    }
-
     private void nextSlide() {
-        currentIndex++;
-        if (currentIndex >= words.size()) {
-            showSessionComplete();
-        } else {
-            showCurrentWord();
-        }
-        startAutoAdvance();
+        if (words.isEmpty()) return;
+        timeline.next();
     }
 
     private void prevSlide() {
-        if (currentIndex > 0) {
-            currentIndex--;
-            showCurrentWord();
-            startAutoAdvance();
-        }
+        if (words.isEmpty()) return;
+        timeline.previous();
     }
 
     private void togglePause() {
-        isPaused = !isPaused;
-        if (isPaused) {
-            pauseBtn.setImageResource(android.R.drawable.ic_media_play);
-            stopAutoAdvance();
-        } else {
+        if (timeline.isPaused()) {
             pauseBtn.setImageResource(android.R.drawable.ic_media_pause);
-            startAutoAdvance();
+            timeline.resume();
+        } else {
+            pauseBtn.setImageResource(android.R.drawable.ic_media_play);
+            timeline.pause();
         }
     }
 
     private void showSessionComplete() {
-        stopAutoAdvance();
         slideshowContainer.setVisibility(View.GONE);
         controlsContainer.setVisibility(View.GONE);
         sessionComplete.setVisibility(View.VISIBLE);
@@ -253,18 +219,6 @@ public class LearnActivity extends AppCompatActivity {
         }
     }
 
-    private void speakGerman(String word) {
-        if (ttsGerman != null) {
-            ttsGerman.speak(word, TextToSpeech.QUEUE_FLUSH, null, "learn_word");
-        }
-    }
-
-    private void speakEnglish(String word) {
-        if (ttsEnglish != null) {
-            ttsEnglish.speak(word, TextToSpeech.QUEUE_FLUSH, null, "learn_meaning");
-        }
-    }
-
     private void setupBottomNav() {
         BottomNavigationView bottomNav = findViewById(R.id.bottomNav);
         if (bottomNav == null) return;
@@ -301,17 +255,30 @@ public class LearnActivity extends AppCompatActivity {
         });
     }
 
+    // Nothing may speak or advance a slide while the screen is in the background
     @Override
-    protected void onDestroy() {
-        stopAutoAdvance();
-        if (ttsGerman != null) {
-            ttsGerman.stop();
-            ttsGerman.shutdown();
+    protected void onPause() {
+        super.onPause();
+        if (!timeline.isPaused()) {
+            timeline.pause();
+            pausedByLifecycle = true;
         }
-        if (ttsEnglish != null) {
-            ttsEnglish.stop();
-            ttsEnglish.shutdown();
+    }
+
+    // A slideshow the user paused stays paused
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (pausedByLifecycle) {
+            pausedByLifecycle = false;
+            timeline.resume();
         }
+    }
+
+    @Override
+    protected void onDestroy() {
+        timeline.release();
+        loadExecutor.shutdownNow();
         super.onDestroy();
     }
 }
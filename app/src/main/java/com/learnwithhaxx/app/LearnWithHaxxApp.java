@@ -0,0 +1,19 @@
+package com.learnwithhaxx.app;
+
+import android.app.Application;
+import android.os.Looper;
+
+import java.util.Locale;
+
+public class LearnWithHaxxApp extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        // Bind the German voice once the first screen is up, so it is ready before the first tap
+        Looper.myQueue().addIdleHandler(() -> {
+            Speech.getInstance(this).warmUp(Locale.GERMAN);
+            return false;
+        });
+    }
+}
@@ -2,10 +2,6 @@ package com.learnwithhaxx.app;
 
 import android.content.Intent;
 import android.os.Bundle;
-import android.speech.tts.TextToSpeech;
-import android.text.SpannableString;
-import android.text.Spanned;
-import android.text.style.ForegroundColorSpan;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -17,12 +13,15 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.SearchView;
-import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.AsyncListDiffer;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
+import com.learnwithhaxx.core.User;
+import com.learnwithhaxx.core.Word;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -30,7 +29,7 @@ import java.util.Locale;
 public class MainActivity extends AppCompatActivity {
 
     private DatabaseHelper db;
-    private TextToSpeech tts;
+    private Speech speech;
     private RecyclerView wordRecyclerView;
     private LinearLayout emptyState;
     private TextView streakCount;
@@ -41,6 +40,7 @@ public class MainActivity extends AppCompatActivity {
     
     private WordAdapter adapter;
     private List<Word> wordList = new ArrayList<>();
+    private WordSearch search;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -48,6 +48,7 @@ public class MainActivity extends AppCompatActivity {
         setContentView(R.layout.activity_main);
 
         db = DatabaseHelper.getInstance(this);
+        search = new WordSearch(db, results -> adapter.submitList(results));
 
         wordRecyclerView = findViewById(R.id.wordRecyclerView);
         emptyState = findViewById(R.id.emptyState);
@@ -58,6 +59,9 @@ public class MainActivity extends AppCompatActivity {
         headerTitle = findViewById(R.id.headerTitle);
 
         wordRecyclerView.setLayoutManager(new LinearLayoutManager(this));
+        // One adapter for the activity's lifetime; new lists are diffed in, keeping scroll position
+        adapter = new WordAdapter();
+        wordRecyclerView.setAdapter(adapter);
 
         findViewById(R.id.streakBadge).setOnClickListener(v -> {
             Intent intent = new Intent(this, StreakActivity.class);
@@ -100,11 +104,7 @@ public class MainActivity extends AppCompatActivity {
             return false;
         });
 
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.GERMAN);
-            }
-        });
+        speech = Speech.getInstance(this);
 
         setupBottomNav();
     }
@@ -120,27 +120,17 @@ public class MainActivity extends AppCompatActivity {
         searchView.setVisibility(View.GONE);
         headerTitle.setVisibility(View.VISIBLE);
         searchView.setQuery("", false);
-        if (adapter != null) {
-            adapter.updateList(wordList);
-        }
+        search.cancel();
+        adapter.submitList(wordList);
     }
 
     private void filterWords(String query) {
         if (query.isEmpty()) {
-            if (adapter != null) adapter.updateList(wordList);
+            search.cancel();
+            adapter.submitList(wordList);
             return;
         }
-        
-        List<Word> filteredList = new ArrayList<>();
-        for (Word word : wordList) {
-            if (word.getGermanWord().toLowerCase().contains(query.toLowerCase()) ||
-                word.getMeaning().toLowerCase().contains(query.toLowerCase())) {
-                filteredList.add(word);
-            }
-        }
-        if (adapter != null) {
-            adapter.updateList(filteredList);
-        }
+        search.search(query);
     }
 
     @Override
@@ -156,6 +146,7 @@ public class MainActivity extends AppCompatActivity {
         todayCount.setText(count + " / 5");
 
         wordList = db.getAllWords();
+        search.setWords(wordList);
         totalWordCount.setText(String.valueOf(wordList.size()));
 
         if (wordList.isEmpty()) {
@@ -164,20 +155,18 @@ public class MainActivity extends AppCompatActivity {
         } else {
             wordRecyclerView.setVisibility(View.VISIBLE);
             emptyState.setVisibility(View.GONE);
-            adapter = new WordAdapter(wordList);
-            wordRecyclerView.setAdapter(adapter);
         }
         
         // Refresh search if active
         if (searchView.getVisibility() == View.VISIBLE) {
             filterWords(searchView.getQuery().toString());
+        } else {
+            adapter.submitList(wordList);
         }
     }
 
     private void speakGerman(String word) {
-        if (tts != null) {
-            tts.speak(word, TextToSpeech.QUEUE_FLUSH, null, "german_word");
-        }
+        speech.speak(word, Locale.GERMAN, "german_word");
     }
 
     private void setupBottomNav() {
@@ -204,23 +193,23 @@ public class MainActivity extends AppCompatActivity {
 
     @Override
     protected void onDestroy() {
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
+        search.shutdown();
+        speech.stop("german_word");
         super.onDestroy();
     }
 
     private class WordAdapter extends RecyclerView.Adapter<WordAdapter.WordViewHolder> {
-        private List<Word> words;
+        // Diffs run on a background thread; only the changed rows are rebound and animated
+        private final AsyncListDiffer<Word> differ = new AsyncListDiffer<>(this, new WordItemCallback());
+
+        private final WordRows rows = WordRows.getInstance(MainActivity.this);
 
-        public WordAdapter(List<Word> words) {
-            this.words = words;
+        public WordAdapter() {
+            setHasStableIds(true);
         }
 
-        public void updateList(List<Word> newList) {
-            this.words = newList;
-            notifyDataSetChanged();
+        public void submitList(List<Word> newList) {
+            differ.submitList(newList);
         }
 
         @NonNull
@@ -232,49 +221,35 @@ public class MainActivity extends AppCompatActivity {
 
         @Override
         public void onBindViewHolder(@NonNull WordViewHolder holder, int position) {
-            Word word = words.get(position);
-            String german = word.getGermanWord();
-            String lower = german.toLowerCase();
-
-            if (lower.startsWith("der ") || lower.startsWith("die ") || lower.startsWith("das ")) {
-                SpannableString ss = new SpannableString(german);
-                int color;
-                int end = 3; 
-                
-                if (lower.startsWith("der ")) {
-                    color = ContextCompat.getColor(MainActivity.this, R.color.blue_primary);
-                } else if (lower.startsWith("die ")) {
-                    color = ContextCompat.getColor(MainActivity.this, R.color.red_primary);
-                } else {
-                    color = ContextCompat.getColor(MainActivity.this, R.color.green_primary);
-                }
-                
-                ss.setSpan(new ForegroundColorSpan(color), 0, end, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-                holder.germanWord.setText(ss);
-            } else {
-                holder.germanWord.setText(german);
-            }
+            Word word = differ.getCurrentList().get(position);
+            rows.bind(holder.germanWord, holder.meaning, word);
+        }
 
-            holder.meaning.setText(word.getMeaning());
-            
-            holder.speakBtn.setOnClickListener(v -> speakGerman(word.getGermanWord()));
-            
-            holder.deleteBtn.setOnClickListener(v -> {
-                new AlertDialog.Builder(MainActivity.this)
-                        .setTitle("Delete Word")
-                        .setMessage("Delete \"" + word.getGermanWord() + "\"?")
-                        .setPositiveButton("Delete", (d, w) -> {
-                            db.deleteWord(word.getId());
-                            loadData();
-                        })
-                        .setNegativeButton("Cancel", null)
-                        .show();
-            });
+        // Listeners are set once per holder and look the word up when clicked
+        private Word wordAt(int position) {
+            return position != RecyclerView.NO_POSITION ? differ.getCurrentList().get(position) : null;
+        }
+
+        private void confirmDelete(Word word) {
+            new AlertDialog.Builder(MainActivity.this)
+                    .setTitle("Delete Word")
+                    .setMessage("Delete \"" + word.getGermanWord() + "\"?")
+                    .setPositiveButton("Delete", (d, w) -> {
+                        db.deleteWord(word.getId());
+                        loadData();
+                    })
+                    .setNegativeButton("Cancel", null)
+                    .show();
+        }
+
+        @Override
+        public long getItemId(int position) {
+            return differ.getCurrentList().get(position).getId();
         }
 
         @Override
         public int getItemCount() {
-            return words.size();
+            return differ.getCurrentList().size();
         }
 
         class WordViewHolder extends RecyclerView.ViewHolder {
@@ -287,6 +262,15 @@ public class MainActivity extends AppCompatActivity {
                 meaning = v.findViewById(R.id.wordMeaning);
                 speakBtn = v.findViewById(R.id.speakBtn);
                 deleteBtn = v.findViewById(R.id.deleteBtn);
+
+                speakBtn.setOnClickListener(x -> {
+                    Word word = wordAt(getBindingAdapterPosition());
+                    if (word != null) speakGerman(word.getGermanWord());
+                });
+                deleteBtn.setOnClickListener(x -> {
+                    Word word = wordAt(getBindingAdapterPosition());
+                    if (word != null) confirmDelete(word);
+                });
             }
         }
     }
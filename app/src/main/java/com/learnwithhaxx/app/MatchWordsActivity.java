@@ -2,7 +2,7 @@ package com.learnwithhaxx.app;
 
 import android.os.Bundle;
 import android.os.Handler;
-import android.speech.tts.TextToSpeech;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.LinearLayout;
@@ -12,22 +12,20 @@ import android.widget.Toast;
 
 import androidx.appcompat.app.AppCompatActivity;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import com.learnwithhaxx.core.Word;
+
 import java.util.Locale;
 
 public class MatchWordsActivity extends AppCompatActivity {
 
     private DatabaseHelper db;
-    private TextToSpeech tts;
+    private Speech speech;
     
     private LinearLayout leftColumn, rightColumn;
     private ProgressBar progressBar;
     
-    private List<Word> currentWords;
-    private List<Word> shuffledGerman;
-    private List<Word> shuffledEnglish;
+    private RoundProvider rounds;
+    private final Handler handler = new Handler(Looper.getMainLooper());
     
     private View selectedGermanView = null;
     private View selectedEnglishView = null;
@@ -54,60 +52,62 @@ public class MatchWordsActivity extends AppCompatActivity {
         
         findViewById(R.id.closeBtn).setOnClickListener(v -> finish());
         
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.GERMAN);
-            }
-        });
+        speech = Speech.getInstance(this);
 
+        createCards();
+        rounds = new RoundProvider(n -> db.sampleWords(-1, n), TOTAL_MATCHES);
         loadNewRound();
     }
 
+    // Cards are inflated once and rebound for every round
+    private void createCards() {
+        LayoutInflater inflater = LayoutInflater.from(this);
+        for (int i = 0; i < TOTAL_MATCHES; i++) {
+            View german = inflater.inflate(R.layout.item_match_card, leftColumn, false);
+            german.setOnClickListener(this::onGermanClick);
+            leftColumn.addView(german);
+
+            View english = inflater.inflate(R.layout.item_match_card, rightColumn, false);
+            english.setOnClickListener(this::onEnglishClick);
+            rightColumn.addView(english);
+        }
+    }
+
     private void loadNewRound() {
-        List<Word> allWords = db.getAllWords();
-        if (allWords.size() < TOTAL_MATCHES) {
+        rounds.next(this::showRound);
+    }
+
+    private void showRound(RoundProvider.Round round) {
+        if (round.words.size() < TOTAL_MATCHES) {
             Toast.makeText(this, "Add at least " + TOTAL_MATCHES + " words to practice!", Toast.LENGTH_LONG).show();
             finish();
             return;
         }
 
-        Collections.shuffle(allWords);
-        currentWords = allWords.subList(0, TOTAL_MATCHES);
-        
-        shuffledGerman = new ArrayList<>(currentWords);
-        shuffledEnglish = new ArrayList<>(currentWords);
-        Collections.shuffle(shuffledGerman);
-        Collections.shuffle(shuffledEnglish);
-
-        renderColumns();
-    }
-
-    private void renderColumns() {
-        leftColumn.removeAllViews();
-        rightColumn.removeAllViews();
+        handler.removeCallbacksAndMessages(null);
+        selectedGermanView = null;
+        selectedEnglishView = null;
+        selectedGermanWord = null;
+        selectedEnglishWord = null;
         matchesFound = 0;
         progressBar.setProgress(0);
         progressBar.setMax(TOTAL_MATCHES);
 
-        LayoutInflater inflater = LayoutInflater.from(this);
-
-        for (Word w : shuffledGerman) {
-            View v = inflater.inflate(R.layout.item_match_card, leftColumn, false);
-            TextView tv = v.findViewById(R.id.cardText);
-            tv.setText(w.getGermanWord());
-            v.setTag(w);
-            v.setOnClickListener(this::onGermanClick);
-            leftColumn.addView(v);
+        for (int i = 0; i < TOTAL_MATCHES; i++) {
+            Word german = round.first.get(i);
+            bindCard(leftColumn.getChildAt(i), german, german.getGermanWord());
+            Word english = round.second.get(i);
+            bindCard(rightColumn.getChildAt(i), english, english.getMeaning());
         }
+    }
 
-        for (Word w : shuffledEnglish) {
-            View v = inflater.inflate(R.layout.item_match_card, rightColumn, false);
-            TextView tv = v.findViewById(R.id.cardText);
-            tv.setText(w.getMeaning());
-            v.setTag(w);
-            v.setOnClickListener(this::onEnglishClick);
-            rightColumn.addView(v);
-        }
+    private void bindCard(View v, Word word, String text) {
+        TextView tv = v.findViewById(R.id.cardText);
+        tv.setText(text);
+        tv.setBackgroundResource(R.drawable.bg_rounded_card);
+        v.setTag(word);
+        v.setAlpha(1f);
+        v.setClickable(true);
     }
 
     private void onGermanClick(View v) {
@@ -162,14 +162,14 @@ public class MatchWordsActivity extends AppCompatActivity {
         matchesFound++;
         progressBar.setProgress(matchesFound);
 
-        new Handler().postDelayed(() -> {
+        handler.postDelayed(() -> {
             v1.setAlpha(0.3f);
             v2.setAlpha(0.3f);
             v1.setClickable(false);
             v2.setClickable(false);
             if (matchesFound == TOTAL_MATCHES) {
                 // Automatically load new round after a short delay
-                new Handler().postDelayed(this::loadNewRound, 500);
+                handler.postDelayed(this::loadNewRound, 500);
             }
         }, 500);
     }
@@ -178,24 +178,21 @@ public class MatchWordsActivity extends AppCompatActivity {
         v1.findViewById(R.id.cardText).setBackgroundResource(R.drawable.bg_match_card_wrong);
         v2.findViewById(R.id.cardText).setBackgroundResource(R.drawable.bg_match_card_wrong);
 
-        new Handler().postDelayed(() -> {
+        handler.postDelayed(() -> {
             v1.findViewById(R.id.cardText).setBackgroundResource(R.drawable.bg_rounded_card);
             v2.findViewById(R.id.cardText).setBackgroundResource(R.drawable.bg_rounded_card);
         }, 500);
     }
 
     private void speakGerman(String word) {
-        if (tts != null) {
-            tts.speak(word, TextToSpeech.QUEUE_FLUSH, null, "match_pronunciation");
-        }
+        speech.speak(word, Locale.GERMAN, "match_pronunciation");
     }
 
     @Override
     protected void onDestroy() {
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
+        handler.removeCallbacksAndMessages(null);
+        rounds.shutdown();
+        speech.stop("match_pronunciation");
         super.onDestroy();
     }
 }
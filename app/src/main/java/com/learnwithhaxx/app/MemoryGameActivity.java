@@ -2,12 +2,9 @@ package com.learnwithhaxx.app;
 
 import android.animation.AnimatorInflater;
 import android.animation.AnimatorSet;
-import android.database.Cursor;
-import android.database.sqlite.SQLiteDatabase;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
-import android.speech.tts.TextToSpeech;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.Button;
@@ -18,9 +15,8 @@ import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.content.ContextCompat;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import com.learnwithhaxx.core.Word;
+
 import java.util.Locale;
 
 public class MemoryGameActivity extends AppCompatActivity {
@@ -29,11 +25,9 @@ public class MemoryGameActivity extends AppCompatActivity {
     private GridLayout topGrid, bottomGrid;
     private TextView timerText, scoreText, finalStats;
     private View successOverlay;
-    private TextToSpeech tts;
+    private Speech speech;
 
-    private List<Word> hardWords;
-    private List<Word> topRowWords;
-    private List<Word> bottomRowWords;
+    private RoundProvider rounds;
 
     private View selectedTopView = null;
     private View selectedBottomView = null;
@@ -44,6 +38,7 @@ public class MemoryGameActivity extends AppCompatActivity {
     private int TOTAL_PAIRS = 9;
     private int secondsElapsed = 0;
     private Handler timerHandler = new Handler(Looper.getMainLooper());
+    private final Handler cardHandler = new Handler(Looper.getMainLooper());
     private Runnable timerRunnable;
 
     @Override
@@ -63,83 +58,73 @@ public class MemoryGameActivity extends AppCompatActivity {
         findViewById(R.id.closeBtn).setOnClickListener(v -> finish());
         findViewById(R.id.playAgainBtn).setOnClickListener(v -> startNewGame());
 
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.GERMAN);
-            }
-        });
+        speech = Speech.getInstance(this);
 
+        createCards();
+        rounds = new RoundProvider(n -> db.sampleWords(1, n), TOTAL_PAIRS);
         startNewGame();
     }
 
     private void startNewGame() {
         successOverlay.setVisibility(View.GONE);
-        matchesFound = 0;
-        secondsElapsed = 0;
-        updateScoreUI();
-        loadHardWords();
-        
-        if (hardWords.size() < TOTAL_PAIRS) {
+        rounds.next(this::startRound);
+    }
+
+    private void startRound(RoundProvider.Round round) {
+        if (round.words.size() < TOTAL_PAIRS) {
             Toast.makeText(this, "Need at least " + TOTAL_PAIRS + " 'HARD' words to play!", Toast.LENGTH_LONG).show();
             finish();
             return;
         }
 
-        Collections.shuffle(hardWords);
-        List<Word> sessionWords = hardWords.subList(0, TOTAL_PAIRS);
-
-        topRowWords = new ArrayList<>(sessionWords);
-        bottomRowWords = new ArrayList<>(sessionWords);
-        Collections.shuffle(topRowWords);
-        Collections.shuffle(bottomRowWords);
-
-        renderGrids();
-        startTimer();
-    }
+        cardHandler.removeCallbacksAndMessages(null);
+        resetSelection();
+        matchesFound = 0;
+        secondsElapsed = 0;
+        updateScoreUI();
 
-    private void loadHardWords() {
-        hardWords = new ArrayList<>();
-        SQLiteDatabase readDb = db.getReadableDatabase();
-        Cursor c = readDb.rawQuery("SELECT * FROM words WHERE level = 1", null);
-        while (c.moveToNext()) {
-            Word w = new Word();
-            w.setId(c.getInt(c.getColumnIndexOrThrow("id")));
-            w.setGermanWord(c.getString(c.getColumnIndexOrThrow("german_word")));
-            w.setMeaning(c.getString(c.getColumnIndexOrThrow("meaning")));
-            hardWords.add(w);
+        for (int i = 0; i < TOTAL_PAIRS; i++) {
+            Word top = round.first.get(i);
+            bindCard(topGrid.getChildAt(i), top, top.getGermanWord());
+            Word bottom = round.second.get(i);
+            bindCard(bottomGrid.getChildAt(i), bottom, bottom.getMeaning());
         }
-        c.close();
+        startTimer();
     }
 
-    private void renderGrids() {
-        topGrid.removeAllViews();
-        bottomGrid.removeAllViews();
-
+    // Cards are inflated once and turned face down again for every round
+    private void createCards() {
         LayoutInflater inflater = LayoutInflater.from(this);
-
         for (int i = 0; i < TOTAL_PAIRS; i++) {
             // Top Grid (German)
             View card = inflater.inflate(R.layout.item_memory_card, topGrid, false);
-            TextView frontText = card.findViewById(R.id.frontText);
-            frontText.setText(topRowWords.get(i).getGermanWord());
-            card.setTag(topRowWords.get(i));
-            card.setOnClickListener(v -> onTopCardClicked(v));
+            card.setOnClickListener(this::onTopCardClicked);
             topGrid.addView(card);
 
             // Bottom Grid (English)
             View cardB = inflater.inflate(R.layout.item_memory_card, bottomGrid, false);
-            TextView frontTextB = cardB.findViewById(R.id.frontText);
-            frontTextB.setText(bottomRowWords.get(i).getMeaning());
-            cardB.setTag(bottomRowWords.get(i));
-            cardB.setOnClickListener(v -> onBottomCardClicked(v));
+            cardB.setOnClickListener(this::onBottomCardClicked);
             bottomGrid.addView(cardB);
         }
     }
 
+    private void bindCard(View card, Word word, String text) {
+        TextView frontText = card.findViewById(R.id.frontText);
+        frontText.setText(text);
+        card.setTag(word);
+
+        card.animate().cancel();
+        card.setRotationY(0f);
+        card.setAlpha(1f);
+        card.setClickable(true);
+        View front = card.findViewById(R.id.cardFront);
+        front.setVisibility(View.GONE);
+        front.setBackgroundColor(ContextCompat.getColor(this, R.color.white));
+        card.findViewById(R.id.cardBack).setVisibility(View.VISIBLE);
+    }
+
     private void speakGerman(String word) {
-        if (tts != null) {
-            tts.speak(word, TextToSpeech.QUEUE_FLUSH, null, "german_word");
-        }
+        speech.speak(word, Locale.GERMAN, "memory_pronunciation");
     }
 
     private void onTopCardClicked(View v) {
@@ -184,7 +169,7 @@ public class MemoryGameActivity extends AppCompatActivity {
                 setCardBackground(vTop, R.drawable.bg_memory_card_correct);
                 setCardBackground(vBottom, R.drawable.bg_memory_card_correct);
 
-                new Handler().postDelayed(() -> {
+                cardHandler.postDelayed(() -> {
                     vTop.animate().alpha(0.5f).setDuration(300);
                     vBottom.animate().alpha(0.5f).setDuration(300);
                     vTop.setClickable(false);
@@ -205,7 +190,7 @@ public class MemoryGameActivity extends AppCompatActivity {
 
                 resetSelection();
 
-                new Handler().postDelayed(() -> {
+                cardHandler.postDelayed(() -> {
                     flipCard(vTop, false);
                     flipCard(vBottom, false);
                 }, 1000);
@@ -235,7 +220,7 @@ public class MemoryGameActivity extends AppCompatActivity {
 
         view.animate().rotationY(end).setDuration(300).start();
         
-        new Handler().postDelayed(() -> {
+        cardHandler.postDelayed(() -> {
             if (showFront) {
                 back.setVisibility(View.GONE);
                 front.setVisibility(View.VISIBLE);
@@ -281,11 +266,10 @@ public class MemoryGameActivity extends AppCompatActivity {
 
     @Override
     protected void onDestroy() {
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
+        speech.stop("memory_pronunciation");
         timerHandler.removeCallbacks(timerRunnable);
+        cardHandler.removeCallbacksAndMessages(null);
+        rounds.shutdown();
         super.onDestroy();
     }
 }
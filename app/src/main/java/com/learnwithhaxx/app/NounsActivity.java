@@ -3,10 +3,10 @@ package com.learnwithhaxx.app;
 import android.content.Intent;
 import android.graphics.Color;
 import android.os.Bundle;
-import android.speech.tts.TextToSpeech;
-import android.text.SpannableString;
-import android.text.Spanned;
-import android.text.style.ForegroundColorSpan;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -17,30 +17,43 @@ import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
-import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.AsyncListDiffer;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
+import com.learnwithhaxx.core.Declension;
+import com.learnwithhaxx.core.Gender;
+import com.learnwithhaxx.core.Word;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class NounsActivity extends AppCompatActivity {
 
     private DatabaseHelper db;
-    private TextToSpeech tts;
+    private Speech speech;
     private RecyclerView nounRecyclerView;
     private LinearLayout emptyNouns;
     private TextView emptyNounTitle;
     private LinearLayout btnDer, btnDie, btnDas;
     
     private List<Word> allNouns = new ArrayList<>();
-    private List<Word> filteredNouns = new ArrayList<>();
     private NounAdapter adapter;
     private String currentFilter = "all";
 
+    // Plural/genitive line per word id, filled by a background declension pass and kept across
+    // reloads; declinedFrom holds the German text each id was declined from, so edits are redone
+    private final SparseArray<String> formLabels = new SparseArray<>();
+    private final SparseArray<String> declinedFrom = new SparseArray<>();
+    private final SparseBooleanArray nounIds = new SparseBooleanArray(); // ids in the loaded list
+    private final ExecutorService declineExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -57,12 +70,10 @@ public class NounsActivity extends AppCompatActivity {
         btnDas = findViewById(R.id.btnDas);
 
         nounRecyclerView.setLayoutManager(new LinearLayoutManager(this));
+        adapter = new NounAdapter();
+        nounRecyclerView.setAdapter(adapter);
 
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.GERMAN);
-            }
-        });
+        speech = Speech.getInstance(this);
 
         btnDer.setOnClickListener(v -> toggleFilter("der"));
         btnDie.setOnClickListener(v -> toggleFilter("die"));
@@ -82,15 +93,84 @@ public class NounsActivity extends AppCompatActivity {
         allNouns.clear();
         
         for (Word word : words) {
-            String lower = word.getGermanWord().toLowerCase();
             String cat = word.getPartOfSpeech();
-            if (lower.startsWith("der ") || lower.startsWith("die ") || lower.startsWith("das ") || 
+            if (word.getGender() != null || 
                 (cat != null && (cat.equalsIgnoreCase("Nomen") || cat.equalsIgnoreCase("Noun")))) {
                 allNouns.add(word);
             }
         }
         
         applyFilter(currentFilter);
+
+        nounIds.clear();
+        List<Word> missing = new ArrayList<>();
+        for (Word word : allNouns) {
+            nounIds.put(word.getId(), true);
+            if (!word.getGermanWord().equals(declinedFrom.get(word.getId()))) missing.add(word);
+        }
+        // Deleted words (or ones no longer filed as nouns) drop out of the cache
+        for (int i = declinedFrom.size() - 1; i >= 0; i--) {
+            int id = declinedFrom.keyAt(i);
+            if (!nounIds.get(id)) {
+                declinedFrom.removeAt(i);
+                formLabels.remove(id);
+            }
+        }
+        if (!missing.isEmpty()) declineInBackground(missing);
+    }
+
+    // Declines the nouns without a label yet off the main thread; their rows show forms once it is done
+    private void declineInBackground(List<Word> nouns) {
+        declineExecutor.execute(() -> {
+            SparseArray<String> labels = new SparseArray<>(nouns.size());
+            for (Word word : nouns) {
+                Declension.Paradigm p = Declension.decline(word.getGermanWord());
+                if (p != null) labels.put(word.getId(), formsLabel(p, db.splitCompound(word.getGermanWord())));
+            }
+            mainHandler.post(() -> {
+                if (isDestroyed()) return;
+                for (Word word : nouns) {
+                    if (!nounIds.get(word.getId())) continue; // deleted while it was being declined
+                    formLabels.put(word.getId(), labels.get(word.getId()));
+                    declinedFrom.put(word.getId(), word.getGermanWord());
+                }
+                // Same rows, new labels: rebind in place rather than resetting the list
+                adapter.notifyItemRangeChanged(0, adapter.getItemCount());
+            });
+        });
+    }
+
+    private static String formsLabel(Declension.Paradigm p, List<String> parts) {
+        String plural = p.hasPlural() ? "Pl. " + p.pluralWithArticle(Declension.Case.NOMINATIV) : "No plural";
+        String label = plural + " · Gen. " + p.singularWithArticle(Declension.Case.GENITIV);
+        if (parts.isEmpty()) return label;
+
+        // Compound parts: Haus + Tür + Schlüssel
+        StringBuilder sb = new StringBuilder();
+        for (String part : parts) {
+            if (sb.length() > 0) sb.append(" + ");
+            sb.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+        }
+        return sb.append("\n").append(label).toString();
+    }
+
+    private void showDeclension(Word word) {
+        Declension.Paradigm p = Declension.get(word.getGermanWord());
+        if (p == null) return;
+
+        String[] caseNames = {"Nom.", "Akk.", "Dat.", "Gen."};
+        StringBuilder table = new StringBuilder();
+        for (Declension.Case c : Declension.Case.values()) {
+            table.append(caseNames[c.ordinal()]).append("  ").append(p.singularWithArticle(c));
+            if (p.hasPlural()) table.append("  ·  ").append(p.pluralWithArticle(c));
+            table.append("\n");
+        }
+
+        new AlertDialog.Builder(this)
+                .setTitle(word.getGermanWord())
+                .setMessage(table.toString().trim())
+                .setPositiveButton("OK", null)
+                .show();
     }
 
     private void toggleFilter(String filter) {
@@ -103,7 +183,8 @@ public class NounsActivity extends AppCompatActivity {
 
     private void applyFilter(String filter) {
         currentFilter = filter;
-        filteredNouns.clear();
+        // A fresh list each time; the differ compares it against the one on screen
+        List<Word> filteredNouns = new ArrayList<>();
         
         // Update UI: if "all", all buttons look active. If specific, only that one.
         if (filter.equals("all")) {
@@ -116,8 +197,9 @@ public class NounsActivity extends AppCompatActivity {
             btnDie.setAlpha(filter.equals("die") ? 1.0f : 0.5f);
             btnDas.setAlpha(filter.equals("das") ? 1.0f : 0.5f);
 
+            Gender gender = Gender.fromArticle(filter);
             for (Word word : allNouns) {
-                if (word.getGermanWord().toLowerCase().startsWith(filter + " ")) {
+                if (word.getGender() == gender) {
                     filteredNouns.add(word);
                 }
             }
@@ -134,19 +216,12 @@ public class NounsActivity extends AppCompatActivity {
         } else {
             nounRecyclerView.setVisibility(View.VISIBLE);
             emptyNouns.setVisibility(View.GONE);
-            if (adapter == null) {
-                adapter = new NounAdapter(filteredNouns);
-                nounRecyclerView.setAdapter(adapter);
-            } else {
-                adapter.updateList(filteredNouns);
-            }
         }
+        adapter.submitList(filteredNouns);
     }
 
     private void speakGerman(String word) {
-        if (tts != null) {
-            tts.speak(word, TextToSpeech.QUEUE_FLUSH, null, "noun_pronunciation");
-        }
+        speech.speak(word, Locale.GERMAN, "noun_pronunciation");
     }
 
     private void setupBottomNav() {
@@ -191,23 +266,22 @@ public class NounsActivity extends AppCompatActivity {
 
     @Override
     protected void onDestroy() {
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
+        declineExecutor.shutdownNow();
+        speech.stop("noun_pronunciation");
         super.onDestroy();
     }
 
     private class NounAdapter extends RecyclerView.Adapter<NounAdapter.NounViewHolder> {
-        private List<Word> words;
+        private final AsyncListDiffer<Word> differ = new AsyncListDiffer<>(this, new WordItemCallback());
+
+        private final WordRows rows = WordRows.getInstance(NounsActivity.this);
 
-        public NounAdapter(List<Word> words) {
-            this.words = words;
+        public NounAdapter() {
+            setHasStableIds(true);
         }
 
-        public void updateList(List<Word> newList) {
-            this.words = newList;
-            notifyDataSetChanged();
+        public void submitList(List<Word> newList) {
+            differ.submitList(newList);
         }
 
         @NonNull
@@ -219,61 +293,64 @@ public class NounsActivity extends AppCompatActivity {
 
         @Override
         public void onBindViewHolder(@NonNull NounViewHolder holder, int position) {
-            Word word = words.get(position);
-            String german = word.getGermanWord();
-            String lower = german.toLowerCase();
-
-            if (lower.startsWith("der ") || lower.startsWith("die ") || lower.startsWith("das ")) {
-                SpannableString ss = new SpannableString(german);
-                int color;
-                int end = 3; // "der", "die", "das" are all 3 chars
-                
-                if (lower.startsWith("der ")) {
-                    color = ContextCompat.getColor(NounsActivity.this, R.color.blue_primary);
-                } else if (lower.startsWith("die ")) {
-                    color = ContextCompat.getColor(NounsActivity.this, R.color.red_primary);
-                } else {
-                    color = ContextCompat.getColor(NounsActivity.this, R.color.green_primary);
-                }
-                
-                ss.setSpan(new ForegroundColorSpan(color), 0, end, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-                holder.germanWord.setText(ss);
-            } else {
-                holder.germanWord.setText(german);
-            }
+            Word word = differ.getCurrentList().get(position);
+            rows.bind(holder.germanWord, holder.meaning, word);
 
-            holder.meaning.setText(word.getMeaning());
-            
-            holder.speakBtn.setOnClickListener(v -> speakGerman(word.getGermanWord()));
-            
-            holder.deleteBtn.setOnClickListener(v -> {
-                new AlertDialog.Builder(NounsActivity.this)
-                        .setTitle("Delete Word")
-                        .setMessage("Delete \"" + word.getGermanWord() + "\"?")
-                        .setPositiveButton("Delete", (d, w) -> {
-                            db.deleteWord(word.getId());
-                            loadNouns();
-                        })
-                        .setNegativeButton("Cancel", null)
-                        .show();
-            });
+            String forms = formLabels.get(word.getId());
+            holder.forms.setVisibility(forms != null ? View.VISIBLE : View.GONE);
+            holder.forms.setText(forms);
+        }
+
+        // Listeners are set once per holder and look the word up when clicked
+        private Word wordAt(int position) {
+            return position != RecyclerView.NO_POSITION ? differ.getCurrentList().get(position) : null;
+        }
+
+        private void confirmDelete(Word word) {
+            new AlertDialog.Builder(NounsActivity.this)
+                    .setTitle("Delete Word")
+                    .setMessage("Delete \"" + word.getGermanWord() + "\"?")
+                    .setPositiveButton("Delete", (d, w) -> {
+                        db.deleteWord(word.getId());
+                        loadNouns();
+                    })
+                    .setNegativeButton("Cancel", null)
+                    .show();
+        }
+
+        @Override
+        public long getItemId(int position) {
+            return differ.getCurrentList().get(position).getId();
         }
 
         @Override
         public int getItemCount() {
-            return words.size();
+            return differ.getCurrentList().size();
         }
 
         class NounViewHolder extends RecyclerView.ViewHolder {
-            TextView germanWord, meaning;
+            TextView germanWord, meaning, forms;
             ImageButton speakBtn, deleteBtn;
 
             public NounViewHolder(@NonNull View v) {
                 super(v);
                 germanWord = v.findViewById(R.id.germanWord);
                 meaning = v.findViewById(R.id.wordMeaning);
+                forms = v.findViewById(R.id.wordForms);
                 speakBtn = v.findViewById(R.id.speakBtn);
                 deleteBtn = v.findViewById(R.id.deleteBtn);
+                v.setOnClickListener(x -> {
+                    Word word = wordAt(getBindingAdapterPosition());
+                    if (word != null) showDeclension(word);
+                });
+                speakBtn.setOnClickListener(x -> {
+                    Word word = wordAt(getBindingAdapterPosition());
+                    if (word != null) speakGerman(word.getGermanWord());
+                });
+                deleteBtn.setOnClickListener(x -> {
+                    Word word = wordAt(getBindingAdapterPosition());
+                    if (word != null) confirmDelete(word);
+                });
             }
         }
     }
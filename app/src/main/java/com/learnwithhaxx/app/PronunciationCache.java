@@ -0,0 +1,193 @@
+package com.learnwithhaxx.app;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.learnwithhaxx.core.SizeBoundedLru;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pre-synthesized pronunciations on disk, one WAV per text and voice, trimmed to
+ * {@link #MAX_BYTES} least-recently-used first. Files are named by a hash of voice and text;
+ * the voice for each language is remembered so lookups work before an engine is bound.
+ * The index lives in memory and is used on the main thread only; the directory scan and
+ * every file operation run on a worker. {@link Speech} does the synthesis and playback.
+ */
+public class PronunciationCache {
+
+    private static final long MAX_BYTES = 16L * 1024 * 1024;
+    private static final String SUFFIX = ".wav";
+    private static final String PARTIAL = ".part";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File dir;
+    private final SharedPreferences voices;
+    private SizeBoundedLru<String> index = new SizeBoundedLru<>(MAX_BYTES);
+    private final ExecutorService io = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // Clips committed before the scan came back; they are newer than anything it finds
+    private final Map<String, Long> committedBeforeScan = new LinkedHashMap<>();
+    private boolean scanned;
+
+    private int hits, misses;
+
+    public PronunciationCache(Context context) {
+        dir = new File(context.getCacheDir(), "pronunciations");
+        voices = context.getSharedPreferences("pronunciation_voices", Context.MODE_PRIVATE);
+        long startedAt = System.currentTimeMillis();
+        io.execute(() -> {
+            Map<String, Long> clips = scan(startedAt);
+            mainHandler.post(() -> load(clips));
+        });
+    }
+
+    // Worker: clip sizes oldest first, by last use kept as the modified time so the order survives restarts
+    private Map<String, Long> scan(long startedAt) {
+        dir.mkdirs();
+        File[] files = dir.listFiles();
+        Map<String, Long> clips = new LinkedHashMap<>();
+        if (files == null) return clips;
+
+        List<File> wavs = new ArrayList<>();
+        Map<File, Long> lastUse = new HashMap<>();
+        for (File file : files) {
+            long modified = file.lastModified();
+            if (file.getName().endsWith(SUFFIX)) {
+                wavs.add(file);
+                lastUse.put(file, modified);
+            } else if (modified < startedAt) {
+                file.delete(); // left over from a synthesis the last process didn't finish
+            }
+        }
+        Collections.sort(wavs, (a, b) -> Long.compare(lastUse.get(a), lastUse.get(b)));
+        for (File wav : wavs) clips.put(wav.getName(), wav.length());
+        return clips;
+    }
+
+    private void load(Map<String, Long> clips) {
+        SizeBoundedLru<String> loaded = new SizeBoundedLru<>(MAX_BYTES);
+        List<String> evicted = new ArrayList<>();
+        for (Map.Entry<String, Long> e : clips.entrySet()) {
+            if (!committedBeforeScan.containsKey(e.getKey())) {
+                evicted.addAll(loaded.put(e.getKey(), e.getValue()));
+            }
+        }
+        for (Map.Entry<String, Long> e : committedBeforeScan.entrySet()) {
+            evicted.addAll(loaded.put(e.getKey(), e.getValue()));
+        }
+        committedBeforeScan.clear();
+        index = loaded;
+        scanned = true;
+        delete(evicted);
+    }
+
+    /** The cached clip, or null. */
+    public File lookup(String text, Locale locale) {
+        String name = fileName(text, locale);
+        if (!index.touch(name)) {
+            misses++;
+            return null;
+        }
+        hits++;
+        File file = new File(dir, name);
+        long now = System.currentTimeMillis();
+        io.execute(() -> file.setLastModified(now));
+        return file;
+    }
+
+    public boolean contains(String text, Locale locale) {
+        return index.contains(fileName(text, locale));
+    }
+
+    /** Where to synthesize the clip before {@link #commit} moves it in. */
+    public File partialFile(String text, Locale locale) {
+        return new File(dir, fileName(text, locale) + PARTIAL);
+    }
+
+    /**
+     * Moves a finished clip in. It is filed under the name for the voice known now, since the
+     * partial may have been named before the engine reported its voice.
+     */
+    public void commit(File partial, String text, Locale locale) {
+        File file = new File(dir, fileName(text, locale));
+        io.execute(() -> {
+            long size = partial.length();
+            if (size > 0 && partial.renameTo(file)) {
+                mainHandler.post(() -> store(file.getName(), size));
+            } else {
+                partial.delete();
+            }
+        });
+    }
+
+    /** Deletes a partial clip whose synthesis failed or was cut off. */
+    public void discard(File partial) {
+        io.execute(partial::delete);
+    }
+
+    /** Drops a clip that couldn't be played. */
+    public void remove(File file) {
+        index.remove(file.getName());
+        committedBeforeScan.remove(file.getName());
+        io.execute(file::delete);
+    }
+
+    /** Records the engine's voice for the language; clips of another voice stop matching. */
+    public void setVoice(Locale locale, String voice) {
+        String tag = locale.toLanguageTag();
+        if (!voice.equals(voices.getString(tag, null))) {
+            voices.edit().putString(tag, voice).apply();
+        }
+    }
+
+    public int hits() {
+        return hits;
+    }
+
+    public int misses() {
+        return misses;
+    }
+
+    private void store(String name, long size) {
+        if (!scanned) committedBeforeScan.put(name, size);
+        delete(index.put(name, size));
+    }
+
+    private void delete(List<String> names) {
+        if (names.isEmpty()) return;
+        io.execute(() -> {
+            for (String name : names) new File(dir, name).delete();
+        });
+    }
+
+    private String fileName(String text, Locale locale) {
+        String tag = locale.toLanguageTag();
+        String voice = voices.getString(tag, tag);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest((voice + "\n" + text).getBytes(UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2 + SUFFIX.length());
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.append(SUFFIX).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-1 is always available on Android
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.learnwithhaxx.app;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.learnwithhaxx.core.Word;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Hands out practice rounds of a fixed number of words. The next round is sampled and
+ * shuffled on a worker while the current one is played, so starting it needs no database
+ * work on the main thread.
+ */
+public class RoundProvider {
+
+    public interface Sampler {
+        List<Word> sample(int size); // runs on the worker
+    }
+
+    public interface Callback {
+        void onRound(Round round);
+    }
+
+    public static class Round {
+        public final List<Word> words;
+        // Two independent shuffles, one for each side of the board
+        public final List<Word> first;
+        public final List<Word> second;
+
+        Round(List<Word> words) {
+            this.words = words;
+            first = new ArrayList<>(words);
+            second = new ArrayList<>(words);
+            Collections.shuffle(first);
+            Collections.shuffle(second);
+        }
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Sampler sampler;
+    private final int size;
+
+    private Future<Round> pending;
+    private boolean shutdown;
+
+    public RoundProvider(Sampler sampler, int size) {
+        this.sampler = sampler;
+        this.size = size;
+        prepare();
+    }
+
+    /**
+     * Delivers the prepared round on the main thread, straight away if it is ready, and
+     * starts preparing the one after it. A round may hold fewer words than asked for.
+     */
+    public void next(Callback callback) {
+        if (shutdown) return;
+        Future<Round> ready = pending;
+        if (ready.isDone()) {
+            callback.onRound(get(ready));
+        } else {
+            // The worker runs tasks in order, so this waits only for the round in progress
+            executor.execute(() -> {
+                Round round = get(ready);
+                mainHandler.post(() -> {
+                    if (!shutdown) callback.onRound(round);
+                });
+            });
+        }
+        prepare();
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        executor.shutdownNow();
+        mainHandler.removeCallbacksAndMessages(null);
+    }
+
+    private void prepare() {
+        pending = executor.submit(() -> new Round(sampler.sample(size)));
+    }
+
+    private static Round get(Future<Round> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            return new Round(new ArrayList<>());
+        }
+    }
+}
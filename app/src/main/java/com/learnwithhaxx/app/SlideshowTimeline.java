@@ -0,0 +1,177 @@
+package com.learnwithhaxx.app;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.speech.tts.TextToSpeech;
+
+import java.util.Locale;
+
+/**
+ * Runs the Learn slideshow: show a slide, say the German, then the meaning, then move on.
+ * Each step starts when the previous utterance has actually finished, plus a gap, rather
+ * than at fixed times. Every pause or seek bumps a generation, so callbacks and speech
+ * events from before it are ignored. Main thread only.
+ */
+public class SlideshowTimeline {
+
+    public interface Host {
+        int slideCount();
+
+        /** Shows the slide; a good moment to prepare the one after it. */
+        void showSlide(int index);
+
+        String germanText(int index);
+
+        String meaningText(int index);
+
+        void onFinished();
+    }
+
+    private static final String TAG_GERMAN = "learn_word";
+    private static final String TAG_MEANING = "learn_meaning";
+    private static final int PREFETCH_SLIDES = 3;
+    // Moves on if the engine never reports back, e.g. when it dies mid-utterance
+    private static final long SPEECH_TIMEOUT_MS = 10000;
+
+    private enum Step { GERMAN, MEANING, ADVANCE }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Speech speech;
+    private final Host host;
+
+    private long beforeSpeechMs = 300;
+    private long betweenMs = 700;
+    private long afterMs = 1500;
+
+    private int index;
+    private Step step = Step.GERMAN; // the step that is running or waiting for its gap
+    private boolean paused;
+    private boolean finished; // ran past the last slide; only a seek starts it again
+    private int generation;
+
+    public SlideshowTimeline(Speech speech, Host host) {
+        this.speech = speech;
+        this.host = host;
+    }
+
+    /** Gaps before the German, between German and meaning, and after the meaning. */
+    public void setGaps(long beforeSpeechMs, long betweenMs, long afterMs) {
+        this.beforeSpeechMs = beforeSpeechMs;
+        this.betweenMs = betweenMs;
+        this.afterMs = afterMs;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /** Shows the slide and, unless paused, starts its timeline from the top. */
+    public void seek(int target) {
+        cancel();
+        if (target >= host.slideCount()) {
+            finished = true;
+            host.onFinished();
+            return;
+        }
+        finished = false;
+        index = Math.max(0, target);
+        step = Step.GERMAN;
+        host.showSlide(index);
+        prefetch(index + 1);
+        if (!paused) schedule(Step.GERMAN, beforeSpeechMs);
+    }
+
+    public void next() {
+        seek(index + 1);
+    }
+
+    public void previous() {
+        if (index > 0) seek(index - 1);
+    }
+
+    public void pause() {
+        if (paused) return;
+        paused = true;
+        cancel();
+    }
+
+    /** Picks up at the step that was cut off, after its gap. */
+    public void resume() {
+        if (!paused) return;
+        paused = false;
+        if (!finished) schedule(step, gapBefore(step));
+    }
+
+    /** Stops everything; call from onDestroy. */
+    public void release() {
+        cancel();
+    }
+
+    private void cancel() {
+        generation++;
+        handler.removeCallbacksAndMessages(null);
+        speech.stop(TAG_GERMAN);
+        speech.stop(TAG_MEANING);
+    }
+
+    private long gapBefore(Step s) {
+        return s == Step.GERMAN ? beforeSpeechMs : s == Step.MEANING ? betweenMs : afterMs;
+    }
+
+    private void schedule(Step next, long delay) {
+        step = next;
+        int gen = generation;
+        handler.postDelayed(() -> {
+            if (gen == generation) run(next);
+        }, delay);
+    }
+
+    private void run(Step s) {
+        switch (s) {
+            case GERMAN:
+                say(host.germanText(index), Locale.GERMAN, TAG_GERMAN, Step.MEANING);
+                break;
+            case MEANING:
+                say(host.meaningText(index), Locale.US, TAG_MEANING, Step.ADVANCE);
+                break;
+            case ADVANCE:
+                seek(index + 1);
+                break;
+        }
+    }
+
+    private void say(String text, Locale locale, String tag, Step then) {
+        if (text == null || text.isEmpty()) {
+            schedule(then, gapBefore(then));
+            return;
+        }
+
+        int gen = generation;
+        Runnable timeout = () -> {
+            if (gen != generation) return;
+            generation++; // the late completion, if it ever comes, is now stale
+            speech.stop(tag);
+            schedule(then, gapBefore(then));
+        };
+        handler.postDelayed(timeout, SPEECH_TIMEOUT_MS);
+
+        speech.speak(text, locale, tag, TextToSpeech.QUEUE_FLUSH, spoken -> {
+            if (gen != generation) return;
+            handler.removeCallbacks(timeout);
+            schedule(then, gapBefore(then));
+        });
+    }
+
+    // Synthesizes the coming slides ahead, so they play from the cache
+    private void prefetch(int from) {
+        int end = Math.min(from + PREFETCH_SLIDES, host.slideCount());
+        for (int i = from; i < end; i++) {
+            speech.prefetch(host.germanText(i), Locale.GERMAN);
+            speech.prefetch(host.meaningText(i), Locale.US);
+        }
+    }
+}
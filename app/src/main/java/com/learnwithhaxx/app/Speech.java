@@ -0,0 +1,326 @@
+package com.learnwithhaxx.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.speech.tts.TextToSpeech;
+import android.speech.tts.UtteranceProgressListener;
+import android.speech.tts.Voice;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One TextToSpeech engine per language for the whole process, instead of one per screen.
+ * Engines are bound once (German at app start) and kept; anything spoken before an engine
+ * is ready is queued and played as soon as it is. Main thread only.
+ *
+ * <p>Texts that have been spoken or prefetched are synthesized to disk by a second engine
+ * per language, and later played from the {@link PronunciationCache} with a
+ * {@link ClipPlayer}, which starts at once instead of waiting on the engine.
+ */
+public class Speech {
+
+    public interface Listener {
+        /** On the main thread; {@code spoken} is false if it failed or was cut off. */
+        void onDone(boolean spoken);
+    }
+
+    private static Speech instance;
+
+    private final Context context;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Map<Locale, Engine> engines = new HashMap<>();
+    // Synthesis runs on engines of its own, so a QUEUE_FLUSH from speak() can't drop it
+    private final Map<Locale, Engine> synthEngines = new HashMap<>();
+    private final Map<String, Request> inFlight = new HashMap<>();
+    private int nextId;
+
+    private final PronunciationCache cache;
+    private final ClipPlayer player = new ClipPlayer();
+    private Request playing; // clip currently handed to the player
+    private final Set<String> synthesizing = new HashSet<>();
+
+    // Metrics
+    private int queuedBeforeReady;
+    private int utterances;
+    private long totalStartLatency;
+    private long lastStartLatency = -1;
+
+    public static synchronized Speech getInstance(Context context) {
+        if (instance == null) {
+            instance = new Speech(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    private Speech(Context context) {
+        this.context = context;
+        cache = new PronunciationCache(context);
+    }
+
+    /** Starts binding the engine for {@code locale} if that hasn't happened yet. */
+    public void warmUp(Locale locale) {
+        engine(engines, locale);
+    }
+
+    public void speak(String text, Locale locale, String tag) {
+        speak(text, locale, tag, TextToSpeech.QUEUE_FLUSH, null);
+    }
+
+    /**
+     * Speaks {@code text}, or queues it until the engine is ready. {@code tag} names the caller
+     * (it prefixes the utterance id) so {@link #stop} only cuts off that caller's speech.
+     * A flushing request for a cached text is played from disk.
+     */
+    public void speak(String text, Locale locale, String tag, int queueMode, Listener listener) {
+        Request request = new Request(text, tag + "#" + (nextId++), tag, queueMode, listener, null);
+        if (queueMode == TextToSpeech.QUEUE_FLUSH) {
+            File clip = cache.lookup(text, locale);
+            if (clip != null) {
+                playClip(request, locale, clip);
+                return;
+            }
+            player.stop();
+        }
+        speakLive(request, locale);
+        prefetch(text, locale); // so the next time starts at once
+    }
+
+    /** Synthesizes the text into the cache in the background, unless it is there already. */
+    public void prefetch(String text, Locale locale) {
+        if (text == null || text.isEmpty() || cache.contains(text, locale)) return;
+        File partial = cache.partialFile(text, locale);
+        if (!synthesizing.add(partial.getName())) return;
+
+        Request request = new Request(text, "prefetch#" + (nextId++), "prefetch", TextToSpeech.QUEUE_ADD, spoken -> {
+            synthesizing.remove(partial.getName());
+            if (spoken) cache.commit(partial, text, locale);
+            else cache.discard(partial);
+        }, partial);
+        Engine engine = engine(synthEngines, locale);
+        if (engine.state == Engine.READY) engine.send(request);
+        else if (engine.state == Engine.FAILED) finish(request, false);
+        else engine.pending.add(request);
+    }
+
+    private void playClip(Request request, Locale locale, File clip) {
+        // Same as a flush: cut off the engine's speech in this language
+        Engine engine = engines.get(locale);
+        if (engine != null && engine.state == Engine.READY) engine.tts.stop();
+        playing = request;
+        player.play(clip, new ClipPlayer.Callback() {
+            @Override
+            public void onStarted() {
+                recordStart(request, SystemClock.elapsedRealtime());
+            }
+
+            @Override
+            public void onDone(int result) {
+                if (playing == request) playing = null;
+                if (result == ClipPlayer.FAILED) {
+                    cache.remove(clip);
+                    speakLive(request, locale);
+                } else {
+                    finish(request, result == ClipPlayer.PLAYED);
+                }
+            }
+        });
+    }
+
+    private void speakLive(Request request, Locale locale) {
+        Engine engine = engine(engines, locale);
+        if (engine.state == Engine.READY) {
+            engine.send(request);
+        } else if (engine.state == Engine.FAILED) {
+            finish(request, false);
+        } else {
+            // A flush would drop whatever was queued ahead of it anyway
+            if (request.queueMode == TextToSpeech.QUEUE_FLUSH) engine.dropPending(null);
+            engine.pending.add(request);
+            queuedBeforeReady++;
+        }
+    }
+
+    /** Stops speech started under {@code tag}, queued or playing; other callers' speech is left alone. */
+    public void stop(String tag) {
+        if (playing != null && tag.equals(playing.tag)) player.stop();
+        for (Engine engine : engines.values()) {
+            engine.dropPending(tag);
+            if (engine.state == Engine.READY && tag.equals(engine.lastTag)) {
+                engine.tts.stop();
+            }
+        }
+    }
+
+    public boolean isReady(Locale locale) {
+        Engine engine = engines.get(locale);
+        return engine != null && engine.state == Engine.READY;
+    }
+
+    /** Milliseconds from binding to ready for the engine, or -1 while it isn't. */
+    public long getInitMillis(Locale locale) {
+        Engine engine = engines.get(locale);
+        return engine != null ? engine.initMillis : -1;
+    }
+
+    /** Requests that had to wait for an engine to become ready. */
+    public int getQueuedBeforeReady() {
+        return queuedBeforeReady;
+    }
+
+    /** Milliseconds from the last speak() to the engine starting on it, or -1 before any. */
+    public long getLastStartLatencyMillis() {
+        return lastStartLatency;
+    }
+
+    public long getAverageStartLatencyMillis() {
+        return utterances > 0 ? totalStartLatency / utterances : -1;
+    }
+
+    /** Flushing requests played from the pronunciation cache, and those that weren't in it. */
+    public int getCacheHits() {
+        return cache.hits();
+    }
+
+    public int getCacheMisses() {
+        return cache.misses();
+    }
+
+    private Engine engine(Map<Locale, Engine> pool, Locale locale) {
+        Engine engine = pool.get(locale);
+        if (engine == null) {
+            engine = new Engine(locale);
+            pool.put(locale, engine);
+            engine.tts = new TextToSpeech(context, engine);
+        }
+        return engine;
+    }
+
+    private void recordStart(Request request, long startedAt) {
+        lastStartLatency = startedAt - request.requestedAt;
+        totalStartLatency += lastStartLatency;
+        utterances++;
+    }
+
+    private void finish(Request request, boolean spoken) {
+        if (request.listener != null) request.listener.onDone(spoken);
+    }
+
+    private static class Request {
+        final String text, utteranceId, tag;
+        final int queueMode;
+        final Listener listener;
+        final File file; // synthesize to this file instead of speaking
+        final long requestedAt = SystemClock.elapsedRealtime();
+
+        Request(String text, String utteranceId, String tag, int queueMode, Listener listener, File file) {
+            this.text = text;
+            this.utteranceId = utteranceId;
+            this.tag = tag;
+            this.queueMode = queueMode;
+            this.listener = listener;
+            this.file = file;
+        }
+    }
+
+    private class Engine implements TextToSpeech.OnInitListener {
+        static final int STARTING = 0, READY = 1, FAILED = 2;
+
+        final Locale locale;
+        final long startedAt = SystemClock.elapsedRealtime();
+        final List<Request> pending = new ArrayList<>();
+        TextToSpeech tts;
+        int state = STARTING;
+        long initMillis = -1;
+        String lastTag;
+
+        Engine(Locale locale) {
+            this.locale = locale;
+        }
+
+        @Override
+        public void onInit(int status) {
+            if (status != TextToSpeech.SUCCESS) {
+                state = FAILED;
+                dropPending(null);
+                return;
+            }
+            tts.setLanguage(locale);
+            tts.setOnUtteranceProgressListener(new Progress());
+            Voice voice = tts.getVoice();
+            if (voice != null) cache.setVoice(locale, voice.getName());
+            state = READY;
+            initMillis = SystemClock.elapsedRealtime() - startedAt;
+
+            List<Request> queued = new ArrayList<>(pending);
+            pending.clear();
+            for (Request request : queued) send(request);
+        }
+
+        void send(Request request) {
+            if (request.file == null) lastTag = request.tag;
+            inFlight.put(request.utteranceId, request);
+            int result = request.file != null
+                    ? tts.synthesizeToFile(request.text, null, request.file, request.utteranceId)
+                    : tts.speak(request.text, request.queueMode, null, request.utteranceId);
+            if (result != TextToSpeech.SUCCESS) {
+                inFlight.remove(request.utteranceId);
+                finish(request, false);
+            }
+        }
+
+        // Drops queued requests with the tag, or all of them if it is null
+        void dropPending(String tag) {
+            Iterator<Request> it = pending.iterator();
+            while (it.hasNext()) {
+                Request request = it.next();
+                if (tag == null || tag.equals(request.tag)) {
+                    it.remove();
+                    finish(request, false);
+                }
+            }
+        }
+    }
+
+    // Engine callbacks arrive on a binder thread; everything is handled on the main thread
+    private class Progress extends UtteranceProgressListener {
+        @Override
+        public void onStart(String utteranceId) {
+            long now = SystemClock.elapsedRealtime();
+            mainHandler.post(() -> {
+                Request request = inFlight.get(utteranceId);
+                if (request != null && request.file == null) recordStart(request, now);
+            });
+        }
+
+        @Override
+        public void onDone(String utteranceId) {
+            mainHandler.post(() -> done(utteranceId, true));
+        }
+
+        @Override
+        public void onError(String utteranceId) {
+            mainHandler.post(() -> done(utteranceId, false));
+        }
+
+        // Flushed or stopped before it finished
+        @Override
+        public void onStop(String utteranceId, boolean interrupted) {
+            mainHandler.post(() -> done(utteranceId, false));
+        }
+
+        private void done(String utteranceId, boolean spoken) {
+            Request request = inFlight.remove(utteranceId);
+            if (request != null) finish(request, spoken);
+        }
+    }
+}
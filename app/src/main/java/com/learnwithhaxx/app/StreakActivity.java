@@ -1,13 +1,13 @@
 package com.learnwithhaxx.app;
 
 import android.content.Intent;
-import android.graphics.Color;
 import android.graphics.drawable.GradientDrawable;
 import android.os.Bundle;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.GridLayout;
+import android.widget.HorizontalScrollView;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 import android.widget.Toast;
@@ -16,6 +16,9 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
+import com.learnwithhaxx.core.StreakCalculator;
+import com.learnwithhaxx.core.User;
+
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Locale;
@@ -48,8 +51,9 @@ public class StreakActivity extends AppCompatActivity {
 
     // ── Views ──────────────────────────────────────────────────────────────────
     private TextView     tvMonthYear;
-    private GridLayout   calendarGrid;
-    private LinearLayout contributionStrip;
+    private CalendarMonthView calendarView;
+    private HorizontalScrollView heatmapScroll;
+    private ContributionHeatmapView contributionHeatmap;
     private LinearLayout legendStrip;
     private TextView     tvStreakNumber;
     private TextView     tvBestVal;
@@ -71,8 +75,9 @@ public class StreakActivity extends AppCompatActivity {
 
         // Bind views
         tvMonthYear        = findViewById(R.id.tvMonthYear);
-        calendarGrid       = findViewById(R.id.calendarGrid);
-        contributionStrip  = findViewById(R.id.contributionStrip);
+        calendarView       = findViewById(R.id.calendarView);
+        heatmapScroll      = findViewById(R.id.heatmapScroll);
+        contributionHeatmap = findViewById(R.id.contributionHeatmap);
         legendStrip        = findViewById(R.id.legendStrip);
         tvStreakNumber     = findViewById(R.id.tvStreakNumber);
         tvBestVal          = findViewById(R.id.tvBestVal);
@@ -92,6 +97,10 @@ public class StreakActivity extends AppCompatActivity {
             renderCalendar();
         });
 
+        calendarView.setLevelColors(GREEN_LEVELS);
+        contributionHeatmap.setLevelColors(GREEN_LEVELS);
+        calendarView.setOnDayClickListener(this::showDayActivity);
+
         setupBottomNav();
         buildDayHeaders();
         buildLegend();
@@ -119,109 +128,39 @@ public class StreakActivity extends AppCompatActivity {
         }
         tvActiveVal.setText(activeCount + "d");
 
-        renderContributionStrip();
+        contributionHeatmap.setHistory(db.getContributionHistory());
+        // Most recent weeks first in view; older years are a scroll to the left
+        heatmapScroll.post(() -> heatmapScroll.fullScroll(View.FOCUS_RIGHT));
     }
 
     private void renderCalendar() {
         tvMonthYear.setText(MONTH_NAMES[currentMonth - 1] + " " + currentYear);
-        calendarGrid.removeAllViews();
 
         Calendar cal = Calendar.getInstance();
         cal.set(currentYear, currentMonth - 1, 1);
 
         int firstDow     = cal.get(Calendar.DAY_OF_WEEK) - 1; // 0 = Sunday
         int daysInMonth  = cal.getActualMaximum(Calendar.DAY_OF_MONTH);
-        
-        calendarGrid.setColumnCount(7);
 
-        int cellSize = dpToPx(36);
-        int gap      = dpToPx(4);
-
-        // Empty leading cells
-        for (int i = 0; i < firstDow; i++) {
-            calendarGrid.addView(makeEmptyCell(cellSize, gap));
-        }
-
-        // Day cells
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        // Dates are stored as yyyy-MM-dd, so the month's keys share one prefix
+        String prefix = String.format(Locale.US, "%04d-%02d-", currentYear, currentMonth);
+        int[] counts = new int[daysInMonth];
+        int today = 0;
         for (int day = 1; day <= daysInMonth; day++) {
-            cal.set(Calendar.DAY_OF_MONTH, day);
-            String dateStr = sdf.format(cal.getTime());
-            
-            int count = streakCounts != null && streakCounts.containsKey(dateStr) ? streakCounts.get(dateStr) : 0;
-            int level = getLevelFromCount(count);
-            
-            boolean isToday = dateStr.equals(todayStr);
-            calendarGrid.addView(makeDayCell(day, level, isToday, cellSize, gap, count));
+            String dateStr = prefix + (day < 10 ? "0" + day : String.valueOf(day));
+            Integer count = streakCounts != null ? streakCounts.get(dateStr) : null;
+            counts[day - 1] = count != null ? count : 0;
+            if (dateStr.equals(todayStr)) today = day;
         }
 
-        // Fill trailing empty cells to maintain a constant grid height (always 6 rows = 42 cells)
-        int totalAdded = firstDow + daysInMonth;
-        for (int i = totalAdded; i < 42; i++) {
-            calendarGrid.addView(makeEmptyCell(cellSize, gap));
-        }
+        calendarView.setMonth(counts, firstDow, today);
     }
 
-    private int getLevelFromCount(int count) {
-        if (count == 0) return 0;
-        if (count < 3) return 1;
-        if (count < 6) return 2;
-        if (count < 10) return 3;
-        return 4;
-    }
-
-    private View makeEmptyCell(int size, int gap) {
-        View v = new View(this);
-        GridLayout.LayoutParams lp = new GridLayout.LayoutParams();
-        lp.width  = size;
-        lp.height = size;
-        lp.setMargins(gap / 2, gap / 2, gap / 2, gap / 2);
-        v.setLayoutParams(lp);
-        return v;
-    }
-
-    private View makeDayCell(int day, int level, boolean isToday, int size, int gap, int count) {
-        TextView tv = new TextView(this);
-        tv.setText(String.valueOf(day));
-        tv.setGravity(Gravity.CENTER);
-        tv.setTextSize(12f);
-        tv.setIncludeFontPadding(false);
-        tv.setPadding(0, 0, 0, 0);
-
-        // ALWAYS BLACK TEXT for light theme date numbers
-        tv.setTextColor(0xFF000000); 
-        tv.setTypeface(tv.getTypeface(), android.graphics.Typeface.BOLD);
-
-        GradientDrawable bg = new GradientDrawable();
-        bg.setShape(GradientDrawable.RECTANGLE);
-        bg.setCornerRadius(dpToPx(6));
-
-        if (isToday) {
-            bg.setColor(Color.WHITE);
-            bg.setStroke(dpToPx(2), 0xFF39D353);
-        } else if (level > 0) {
-            bg.setColor(GREEN_LEVELS[level]);
-            bg.setStroke(dpToPx(1), 0x14000000);
-        } else {
-            bg.setColor(GREEN_LEVELS[0]); // Light gray background for empty cells
-            bg.setStroke(dpToPx(1), 0xFFE0E0E0);
-        }
-        tv.setBackground(bg);
-
-        GridLayout.LayoutParams lp = new GridLayout.LayoutParams();
-        lp.width  = size;
-        lp.height = size;
-        lp.setMargins(gap / 2, gap / 2, gap / 2, gap / 2);
-        tv.setLayoutParams(lp);
-
-        tv.setOnClickListener(v -> {
-            String msg = count > 0
-                ? count + " words on " + MONTH_NAMES[currentMonth - 1] + " " + day
-                : "No activity on " + MONTH_NAMES[currentMonth - 1] + " " + day;
-            Toast.makeText(this, msg, Toast.LENGTH_SHORT).show();
-        });
-
-        return tv;
+    private void showDayActivity(int day, int count) {
+        String msg = count > 0
+            ? count + " words on " + MONTH_NAMES[currentMonth - 1] + " " + day
+            : "No activity on " + MONTH_NAMES[currentMonth - 1] + " " + day;
+        Toast.makeText(this, msg, Toast.LENGTH_SHORT).show();
     }
 
     private void buildDayHeaders() {
@@ -249,36 +188,6 @@ public class StreakActivity extends AppCompatActivity {
         }
     }
 
-    private void renderContributionStrip() {
-        contributionStrip.removeAllViews();
-        int size = dpToPx(10);
-        int gap  = dpToPx(3);
-        
-        Calendar cal = Calendar.getInstance();
-        cal.add(Calendar.DAY_OF_YEAR, -19);
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
-
-        for (int i = 0; i < 20; i++) {
-            String dateStr = sdf.format(cal.getTime());
-            int count = streakCounts != null && streakCounts.containsKey(dateStr) ? streakCounts.get(dateStr) : 0;
-            int level = getLevelFromCount(count);
-
-            View cell = new View(this);
-            GradientDrawable bg = new GradientDrawable();
-            bg.setShape(GradientDrawable.RECTANGLE);
-            bg.setCornerRadius(dpToPx(2));
-            bg.setColor(GREEN_LEVELS[level]);
-            bg.setStroke(dpToPx(1), 0x14000000);
-            cell.setBackground(bg);
-
-            LinearLayout.LayoutParams lp = new LinearLayout.LayoutParams(size, size);
-            lp.setMargins(gap / 2, 0, gap / 2, 0);
-            cell.setLayoutParams(lp);
-            contributionStrip.addView(cell);
-            cal.add(Calendar.DAY_OF_YEAR, 1);
-        }
-    }
-
     private void buildLegend() {
         legendStrip.removeAllViews();
         int size = dpToPx(11);
@@ -2,34 +2,55 @@ package com.learnwithhaxx.app;
 
 import android.content.Intent;
 import android.os.Bundle;
-import android.speech.tts.TextToSpeech;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.BaseExpandableListAdapter;
-import android.widget.ExpandableListView;
+import android.widget.EditText;
 import android.widget.TextView;
+import android.widget.Toast;
 
+import androidx.annotation.NonNull;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
+import com.learnwithhaxx.core.Conjugator;
+import com.learnwithhaxx.core.Word;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class VerbConjugationActivity extends AppCompatActivity {
 
     private DatabaseHelper db;
-    private ExpandableListView expandableListView;
+    private RecyclerView verbRecyclerView;
     private View emptyVerbs;
     private TextView verbTotalCount;
     private List<Word> verbs = new ArrayList<>();
-    private VerbExpandableAdapter adapter;
-    private TextToSpeech tts;
-
-    private int isolatedGroupIndex = -1;
+    private VerbAdapter adapter;
+    private Speech speech;
+
+    // The open verb is shown on its own with its forms below it; -1 lists every verb
+    private int expandedIndex = -1;
+    private int expandedId = -1; // kept across reloads
+
+    // Forms by word id, indexed by Tense ordinal; loaded with the verbs, before the rows appear
+    private SparseArray<Conjugator.Conjugation[]> conjugations = new SparseArray<>();
+    private final ExecutorService loadExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private Conjugator.Tense selectedTense = Conjugator.Tense.PRAESENS;
+    private String[] tenseNames;
+    private String[] tenseLabels;
+    private View.OnClickListener cycleTense;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -37,31 +58,27 @@ public class VerbConjugationActivity extends AppCompatActivity {
         setContentView(R.layout.activity_verbs);
 
         db = DatabaseHelper.getInstance(this);
-        expandableListView = findViewById(R.id.verbExpandableList);
+        verbRecyclerView = findViewById(R.id.verbRecyclerView);
         emptyVerbs = findViewById(R.id.emptyVerbs);
         verbTotalCount = findViewById(R.id.verbTotalCount);
+        tenseNames = getResources().getStringArray(R.array.tense_names);
+        tenseLabels = new String[tenseNames.length];
+        for (int i = 0; i < tenseNames.length; i++) {
+            tenseLabels[i] = tenseNames[i] + " ▸";
+        }
+        cycleTense = v -> {
+            Conjugator.Tense[] tenses = Conjugator.Tense.values();
+            selectedTense = tenses[(selectedTense.ordinal() + 1) % tenses.length];
+            adapter.notifyFormsChanged();
+        };
 
-        tts = new TextToSpeech(this, status -> {
-            if (status == TextToSpeech.SUCCESS) {
-                tts.setLanguage(Locale.GERMAN);
-            }
-        });
+        speech = Speech.getInstance(this);
 
         setupBottomNav();
 
-        expandableListView.setOnGroupExpandListener(groupPosition -> {
-            if (isolatedGroupIndex == -1) {
-                isolatedGroupIndex = groupPosition;
-                adapter.notifyDataSetChanged();
-            }
-        });
-
-        expandableListView.setOnGroupCollapseListener(groupPosition -> {
-            if (isolatedGroupIndex != -1) {
-                isolatedGroupIndex = -1;
-                adapter.notifyDataSetChanged();
-            }
-        });
+        adapter = new VerbAdapter();
+        verbRecyclerView.setLayoutManager(new LinearLayoutManager(this));
+        verbRecyclerView.setAdapter(adapter);
 
         // The practice button in this activity's header
         View btnPractice = findViewById(R.id.btnPractice);
@@ -79,37 +96,68 @@ public class VerbConjugationActivity extends AppCompatActivity {
     }
 
     private void loadVerbs() {
-        Map<String, List<Word>> grouped = db.getWordsByCategory();
-        verbs.clear();
-        
-        for (String category : grouped.keySet()) {
-            String lowerCat = category.toLowerCase();
-            if (lowerCat.contains("verb")) {
-                verbs.addAll(grouped.get(category));
-            }
-        }
+        loadExecutor.execute(() -> {
+            // Verbs without stored rows yet are conjugated and stored first, so every form shown
+            // is a stored row that can be edited
+            ConjugationJob.storeMissing(db);
+            List<Word> loaded = db.getVerbs();
+            SparseArray<Conjugator.Conjugation[]> forms = db.getConjugations();
+            mainHandler.post(() -> {
+                if (isDestroyed()) return;
+                showVerbs(loaded, forms);
+            });
+        });
+    }
 
+    private void showVerbs(List<Word> loaded, SparseArray<Conjugator.Conjugation[]> forms) {
+        verbs = loaded;
+        conjugations = forms;
         verbTotalCount.setText(String.valueOf(verbs.size()));
 
+        expandedIndex = -1;
+        for (int i = 0; expandedId != -1 && i < verbs.size(); i++) {
+            if (verbs.get(i).getId() == expandedId) expandedIndex = i;
+        }
+        if (expandedIndex == -1) expandedId = -1;
+        adapter.notifyDataSetChanged();
+
         if (verbs.isEmpty()) {
-            expandableListView.setVisibility(View.GONE);
+            verbRecyclerView.setVisibility(View.GONE);
             emptyVerbs.setVisibility(View.VISIBLE);
         } else {
-            expandableListView.setVisibility(View.VISIBLE);
+            verbRecyclerView.setVisibility(View.VISIBLE);
             emptyVerbs.setVisibility(View.GONE);
-            adapter = new VerbExpandableAdapter();
-            expandableListView.setAdapter(adapter);
-            
-            if (isolatedGroupIndex >= verbs.size()) {
-                isolatedGroupIndex = -1;
-            }
         }
     }
 
+    private void editForm(Word word, int person, String current) {
+        EditText input = new EditText(this);
+        input.setText(current);
+        input.setSelection(input.getText().length());
+
+        new AlertDialog.Builder(this)
+                .setTitle(word.getGermanWord() + " · " + tenseNames[selectedTense.ordinal()])
+                .setView(input)
+                .setPositiveButton("Save", (d, w) -> {
+                    String form = input.getText().toString().trim();
+                    if (form.isEmpty()) return;
+                    if (!db.updateConjugationForm(word.getId(), selectedTense, person, form)) {
+                        // No stored row to correct; leave the screen as it is rather than show an unsaved form
+                        Toast.makeText(this, "Couldn't save this form", Toast.LENGTH_SHORT).show();
+                        return;
+                    }
+                    Conjugator.Conjugation[] forms = conjugations.get(word.getId());
+                    if (forms != null && forms[selectedTense.ordinal()] != null) {
+                        forms[selectedTense.ordinal()].set(person, form);
+                    }
+                    adapter.notifyFormsChanged();
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
     private void speakGerman(String word) {
-        if (tts != null) {
-            tts.speak(word, TextToSpeech.QUEUE_FLUSH, null, "verb_pronunciation");
-        }
+        speech.speak(word, Locale.GERMAN, "verb_pronunciation");
     }
 
     private void setupBottomNav() {
@@ -146,130 +194,166 @@ public class VerbConjugationActivity extends AppCompatActivity {
 
     @Override
     protected void onDestroy() {
-        if (tts != null) {
-            tts.stop();
-            tts.shutdown();
-        }
+        loadExecutor.shutdownNow();
+        speech.stop("verb_pronunciation");
         super.onDestroy();
     }
 
-    private class VerbExpandableAdapter extends BaseExpandableListAdapter {
+    private class VerbAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+        private static final int TYPE_VERB = 0;
+        private static final int TYPE_FORMS = 1;
 
-        @Override
-        public int getGroupCount() {
-            return isolatedGroupIndex == -1 ? verbs.size() : 1;
+        VerbAdapter() {
+            setHasStableIds(true);
+        }
+
+        private Word verbAt(int position) {
+            return verbs.get(expandedIndex != -1 ? expandedIndex : position);
         }
 
         @Override
-        public int getChildrenCount(int groupPosition) {
-            return 1;
+        public int getItemCount() {
+            return expandedIndex != -1 ? 2 : verbs.size();
         }
 
         @Override
-        public Object getGroup(int groupPosition) {
-            return getVerb(groupPosition);
+        public int getItemViewType(int position) {
+            return expandedIndex != -1 && position == 1 ? TYPE_FORMS : TYPE_VERB;
         }
 
+        // A verb's header and its forms row get ids of their own
         @Override
-        public Object getChild(int groupPosition, int childPosition) {
-            return getVerb(groupPosition);
+        public long getItemId(int position) {
+            return verbAt(position).getId() * 2L + getItemViewType(position);
         }
 
-        private Word getVerb(int groupPosition) {
-            if (isolatedGroupIndex != -1) {
-                return verbs.get(isolatedGroupIndex);
+        @NonNull
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            LayoutInflater inflater = LayoutInflater.from(parent.getContext());
+            if (viewType == TYPE_FORMS) {
+                View row = inflater.inflate(R.layout.item_verb_conjugation, parent, false);
+                row.findViewById(R.id.verbInfinitive).setVisibility(View.GONE);
+                row.findViewById(R.id.verbMeaning).setVisibility(View.GONE);
+                return new ConjugationHolder(row);
             }
-            return verbs.get(groupPosition);
+            return new VerbHolder(inflater.inflate(R.layout.item_category_header, parent, false));
         }
 
         @Override
-        public long getGroupId(int groupPosition) {
-            return groupPosition;
+        public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+            Word word = verbAt(position);
+            if (holder instanceof ConjugationHolder) {
+                // Missing rows (no imperative for modal verbs, unknown verbs) show dashes
+                Conjugator.Conjugation[] forms = conjugations.get(word.getId());
+                ((ConjugationHolder) holder).bind(word, forms != null ? forms[selectedTense.ordinal()] : null);
+            } else {
+                ((VerbHolder) holder).bind(word, expandedIndex != -1);
+            }
         }
 
-        @Override
-        public long getChildId(int groupPosition, int childPosition) {
-            return childPosition;
+        // Shows just this verb and its forms; the rows around it are removed, not rebuilt
+        void expand(int index) {
+            int count = verbs.size();
+            expandedIndex = index;
+            expandedId = verbs.get(index).getId();
+            notifyItemRangeRemoved(index + 1, count - index - 1);
+            notifyItemRangeRemoved(0, index);
+            notifyItemChanged(0);
+            notifyItemInserted(1);
         }
 
-        @Override
-        public boolean hasStableIds() {
-            return true;
+        void collapse() {
+            int index = expandedIndex;
+            if (index == -1) return;
+            expandedIndex = -1;
+            expandedId = -1;
+            notifyItemRemoved(1);
+            notifyItemChanged(0);
+            notifyItemRangeInserted(0, index);
+            notifyItemRangeInserted(index + 1, verbs.size() - index - 1);
         }
 
-        @Override
-        public View getGroupView(int groupPosition, boolean isExpanded, View convertView, ViewGroup parent) {
-            Word verb = (Word) getGroup(groupPosition);
-            if (convertView == null) {
-                convertView = LayoutInflater.from(parent.getContext())
-                        .inflate(R.layout.item_category_header, parent, false);
-            }
+        void notifyFormsChanged() {
+            if (expandedIndex != -1) notifyItemChanged(1);
+        }
+    }
 
-            View backArrow = convertView.findViewById(R.id.backArrow);
-            TextView icon = convertView.findViewById(R.id.categoryIcon);
-            TextView title = convertView.findViewById(R.id.categoryTitle);
-            TextView count = convertView.findViewById(R.id.categoryCount);
-            TextView arrow = convertView.findViewById(R.id.categoryArrow);
+    private class VerbHolder extends RecyclerView.ViewHolder {
+        private final View backArrow;
+        private final TextView title, count, arrow;
+
+        VerbHolder(View row) {
+            super(row);
+            backArrow = row.findViewById(R.id.backArrow);
+            title = row.findViewById(R.id.categoryTitle);
+            count = row.findViewById(R.id.categoryCount);
+            arrow = row.findViewById(R.id.categoryArrow);
+            ((TextView) row.findViewById(R.id.categoryIcon)).setText("🏃");
+
+            row.setOnClickListener(v -> {
+                int position = getBindingAdapterPosition();
+                if (position == RecyclerView.NO_POSITION) return;
+                if (expandedIndex != -1) adapter.collapse();
+                else adapter.expand(position);
+            });
+            backArrow.setOnClickListener(v -> adapter.collapse());
+        }
 
+        void bind(Word verb, boolean expanded) {
             title.setText(verb.getGermanWord());
             count.setText(verb.getMeaning());
-            
-            if (isolatedGroupIndex != -1) {
-                backArrow.setVisibility(View.VISIBLE);
-                arrow.setVisibility(View.GONE);
-                icon.setText("🏃");
-                backArrow.setOnClickListener(v -> {
-                    expandableListView.collapseGroup(0);
-                    isolatedGroupIndex = -1;
-                    notifyDataSetChanged();
-                });
-            } else {
-                backArrow.setVisibility(View.GONE);
-                arrow.setVisibility(View.VISIBLE);
-                icon.setText("🏃");
-                arrow.setText(isExpanded ? "▾" : "▸");
-                backArrow.setOnClickListener(null);
-            }
-
-            return convertView;
+            backArrow.setVisibility(expanded ? View.VISIBLE : View.GONE);
+            arrow.setVisibility(expanded ? View.GONE : View.VISIBLE);
         }
+    }
 
-        @Override
-        public View getChildView(int groupPosition, int childPosition, boolean isLastChild, View convertView, ViewGroup parent) {
-            Word word = (Word) getChild(groupPosition, childPosition);
-            if (convertView == null) {
-                convertView = LayoutInflater.from(parent.getContext())
-                        .inflate(R.layout.item_verb_conjugation, parent, false);
-            }
-
-            convertView.findViewById(R.id.verbInfinitive).setVisibility(View.GONE);
-            convertView.findViewById(R.id.verbMeaning).setVisibility(View.GONE);
-
-            Conjugator.Conjugation conj = Conjugator.conjugate(word.getGermanWord());
-            if (conj != null) {
-                setupConjugatedView(convertView.findViewById(R.id.formIch), conj.ich);
-                setupConjugatedView(convertView.findViewById(R.id.formDu), conj.du);
-                setupConjugatedView(convertView.findViewById(R.id.formErSieEs), conj.erSieEs);
-                setupConjugatedView(convertView.findViewById(R.id.formWir), conj.wir);
-                setupConjugatedView(convertView.findViewById(R.id.formIhr), conj.ihr);
-                setupConjugatedView(convertView.findViewById(R.id.formSieSie), conj.sieSie);
+    private class ConjugationHolder extends RecyclerView.ViewHolder {
+        private final TextView tense;
+        private final TextView[] forms = new TextView[6];
+        private Word word;
+        private Conjugator.Conjugation conj;
+
+        ConjugationHolder(View row) {
+            super(row);
+            tense = row.findViewById(R.id.verbTense);
+            tense.setOnClickListener(cycleTense);
+
+            int[] ids = {R.id.formIch, R.id.formDu, R.id.formErSieEs, R.id.formWir, R.id.formIhr, R.id.formSieSie};
+            for (int p = 0; p < ids.length; p++) {
+                int person = p;
+                forms[p] = row.findViewById(ids[p]);
+                View cell = (View) forms[p].getParent();
+                cell.setOnClickListener(v -> {
+                    String text = form(person);
+                    if (text != null) speakGerman(text);
+                });
+                // Long press to hand-correct a generated form
+                cell.setOnLongClickListener(v -> {
+                    String text = form(person);
+                    if (text == null) return false;
+                    editForm(word, person, text);
+                    return true;
+                });
             }
-
-            return convertView;
         }
 
-        private void setupConjugatedView(View view, String text) {
-            if (view instanceof TextView) {
-                TextView tv = (TextView) view;
-                tv.setText(text);
-                View parent = (View) tv.getParent();
-                parent.setOnClickListener(v -> speakGerman(text));
+        // Binds the stored (possibly hand-corrected) strings, so rebinding builds no forms
+        void bind(Word word, Conjugator.Conjugation conj) {
+            this.word = word;
+            this.conj = conj;
+            tense.setText(tenseLabels[selectedTense.ordinal()]);
+            for (int p = 0; p < forms.length; p++) {
+                String text = form(p);
+                forms[p].setText(text != null ? text : "—");
+                View cell = (View) forms[p].getParent();
+                cell.setClickable(text != null);
+                cell.setLongClickable(text != null);
             }
         }
 
-        @Override
-        public boolean isChildSelectable(int groupPosition, int childPosition) {
-            return true;
+        private String form(int person) {
+            return conj != null ? conj.get(person) : null;
         }
     }
 }
@@ -0,0 +1,21 @@
+package com.learnwithhaxx.app;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.learnwithhaxx.core.Word;
+
+/** Word rows: the same row if the id matches, unchanged if the text it shows is the same. */
+public class WordItemCallback extends DiffUtil.ItemCallback<Word> {
+
+    @Override
+    public boolean areItemsTheSame(@NonNull Word oldItem, @NonNull Word newItem) {
+        return oldItem.getId() == newItem.getId();
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull Word oldItem, @NonNull Word newItem) {
+        return oldItem.getGermanWord().equals(newItem.getGermanWord()) &&
+               oldItem.getMeaning().equals(newItem.getMeaning());
+    }
+}
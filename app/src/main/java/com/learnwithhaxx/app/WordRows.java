@@ -0,0 +1,120 @@
+package com.learnwithhaxx.app;
+
+import android.content.Context;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.SpannedString;
+import android.text.style.ForegroundColorSpan;
+import android.util.SparseArray;
+import android.widget.TextView;
+
+import androidx.core.content.ContextCompat;
+
+import com.learnwithhaxx.core.Gender;
+import com.learnwithhaxx.core.Word;
+
+/**
+ * Binds the title and meaning of a word row, with der/die/das in its gender's colour.
+ * Colours are resolved once and titles are kept in an LRU keyed by word id, so scrolling
+ * back over rows already seen allocates nothing.
+ */
+public class WordRows {
+
+    private static final int CACHE_SIZE = 512;
+
+    private static WordRows instance;
+
+    // Shared by every title; a span holds no per-text state
+    private final ForegroundColorSpan derSpan, dieSpan, dasSpan;
+
+    // LRU: id -> node, with the nodes in a ring from most to least recently used.
+    // Evicted nodes are reused, so a full cache stops allocating nodes.
+    private static class Node {
+        int id;
+        String german;
+        CharSequence title;
+        Node prev, next;
+    }
+
+    private final SparseArray<Node> nodes = new SparseArray<>(CACHE_SIZE);
+    private final Node head = new Node();
+
+    public static synchronized WordRows getInstance(Context context) {
+        if (instance == null) {
+            instance = new WordRows(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    private WordRows(Context context) {
+        derSpan = new ForegroundColorSpan(ContextCompat.getColor(context, R.color.blue_primary));
+        dieSpan = new ForegroundColorSpan(ContextCompat.getColor(context, R.color.red_primary));
+        dasSpan = new ForegroundColorSpan(ContextCompat.getColor(context, R.color.green_primary));
+        head.prev = head;
+        head.next = head;
+    }
+
+    public void bind(TextView titleView, TextView meaningView, Word word) {
+        titleView.setText(title(word));
+        meaningView.setText(word.getMeaning());
+    }
+
+    /** The German word with its article coloured; plain for words without one. Main thread only. */
+    public CharSequence title(Word word) {
+        String german = word.getGermanWord();
+        Gender gender = word.getGender();
+        if (gender == null) return german;
+
+        Node node = nodes.get(word.getId());
+        // The text is compared by reference first: unchanged rows share the loaded string
+        if (node != null && (node.german == german || node.german.equals(german))) {
+            moveToFront(node);
+            return node.title;
+        }
+
+        if (node == null) {
+            if (nodes.size() < CACHE_SIZE) {
+                node = new Node();
+            } else {
+                node = head.prev;
+                unlink(node);
+                nodes.remove(node.id);
+            }
+            node.id = word.getId();
+            nodes.put(node.id, node);
+        } else {
+            unlink(node);
+        }
+        node.german = german;
+        node.title = build(german, gender);
+        linkFirst(node);
+        return node.title;
+    }
+
+    private CharSequence build(String german, Gender gender) {
+        // Trimmed as Gender.ofWord does, so the span covers the article it detected
+        SpannableString ss = new SpannableString(german.trim());
+        ForegroundColorSpan span = gender == Gender.MASCULINE ? derSpan : gender == Gender.FEMININE ? dieSpan : dasSpan;
+        ss.setSpan(span, 0, 3, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE); // "der", "die", "das" are all 3 chars
+        // TextView keeps a SpannedString as is; any other Spanned would be copied on every setText
+        return new SpannedString(ss);
+    }
+
+    private void moveToFront(Node node) {
+        if (head.next == node) return;
+        unlink(node);
+        linkFirst(node);
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+    }
+
+    private void linkFirst(Node node) {
+        node.next = head.next;
+        node.prev = head;
+        head.next.prev = node;
+        head.next = node;
+    }
+}
@@ -0,0 +1,141 @@
+package com.learnwithhaxx.app;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.learnwithhaxx.core.FuzzyIndex;
+import com.learnwithhaxx.core.SearchKeys;
+import com.learnwithhaxx.core.Word;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Search-as-you-type for the word list. Keystrokes are debounced, the query runs on a
+ * worker, and only the newest query ever reaches the screen.
+ */
+public class WordSearch {
+
+    public interface Listener {
+        /** Called on the main thread with the hits for the newest query. */
+        void onResults(List<Word> results);
+    }
+
+    private static final long DEBOUNCE_MS = 150;
+    // How often a running scan checks whether it has been superseded
+    private static final int CANCEL_CHECK_EVERY = 256;
+
+    private final DatabaseHelper db;
+    private final Listener listener;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private volatile List<Word> words = Collections.emptyList();
+    // Bumped on every keystroke; a search whose number is stale gives up
+    private volatile int generation;
+    private Runnable pending;
+    private Future<?> running;
+
+    // Worker-only: substring hits of the last finished query, for refining "hau" -> "haus"
+    private List<Word> cachedFor;
+    private String lastQuery;
+    private List<Word> lastHits;
+
+    public WordSearch(DatabaseHelper db, Listener listener) {
+        this.db = db;
+        this.listener = listener;
+    }
+
+    /** New deck contents; earlier hits are no longer valid. */
+    public void setWords(List<Word> words) {
+        this.words = words;
+    }
+
+    /** Schedules a search for the query. */
+    public void search(String query) {
+        int gen = cancel();
+        pending = () -> {
+            pending = null;
+            running = executor.submit(() -> run(query, gen));
+        };
+        mainHandler.postDelayed(pending, DEBOUNCE_MS);
+    }
+
+    /** Drops the pending and in-flight searches. */
+    public int cancel() {
+        int gen = ++generation;
+        if (pending != null) {
+            mainHandler.removeCallbacks(pending);
+            pending = null;
+        }
+        if (running != null) {
+            running.cancel(true);
+            running = null;
+        }
+        return gen;
+    }
+
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private void run(String query, int gen) {
+        List<Word> deck = words;
+        // Folded like the stored keys, so "schon" also finds schön
+        String key = SearchKeys.fold(query);
+
+        // A longer query can only narrow the substring hits, so scan those instead of the deck
+        List<Word> candidates = deck;
+        if (cachedFor == deck && lastQuery != null && key.startsWith(lastQuery)) {
+            candidates = lastHits;
+        }
+
+        List<Word> hits = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCEL_CHECK_EVERY == 0 && gen != generation) return;
+            Word word = candidates.get(i);
+            if (word.getSearchKey().contains(key)) {
+                hits.add(word);
+            }
+        }
+        cachedFor = deck;
+        lastQuery = key;
+        lastHits = hits;
+        if (gen != generation) return;
+
+        // Index lookups don't narrow the same way, so they are always asked afresh
+        Set<Integer> inflected = db.findWordIdsByForm(query);
+        List<FuzzyIndex.Match> fuzzy = db.findFuzzy(query);
+        if (gen != generation) return;
+
+        List<Word> results = new ArrayList<>(hits);
+        Set<Integer> shownIds = new HashSet<>();
+        for (Word word : hits) shownIds.add(word.getId());
+        if (!inflected.isEmpty() || !fuzzy.isEmpty()) {
+            Map<Integer, Word> byId = new HashMap<>();
+            for (Word word : deck) byId.put(word.getId(), word);
+            // Inflected forms ("läuft", "gibst") first, then close misspellings ("Apfl"), nearest first
+            for (Integer id : inflected) {
+                Word word = byId.get(id);
+                if (word != null && shownIds.add(id)) results.add(word);
+            }
+            for (FuzzyIndex.Match match : fuzzy) {
+                Word word = byId.get(match.wordId);
+                if (word != null && shownIds.add(match.wordId)) results.add(word);
+            }
+        }
+
+        mainHandler.post(() -> {
+            if (gen == generation) listener.onResults(results);
+        });
+    }
+}
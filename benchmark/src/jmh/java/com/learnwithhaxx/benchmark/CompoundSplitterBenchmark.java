@@ -0,0 +1,39 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.CompoundSplitter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Splitting on insert: building the lexicon once, then one split per imported noun. */
+@State(Scope.Benchmark)
+public class CompoundSplitterBenchmark {
+
+    @Param({"20000"})
+    public int deckSize;
+
+    private String[] nouns;
+    private CompoundSplitter splitter;
+
+    @Setup
+    public void setUp() {
+        nouns = Decks.nouns(deckSize);
+        splitter = CompoundSplitter.withBaseLexicon();
+    }
+
+    @Benchmark
+    public CompoundSplitter buildLexicon() {
+        return CompoundSplitter.withBaseLexicon();
+    }
+
+    @Benchmark
+    public void splitImport(Blackhole bh) {
+        for (String noun : nouns) {
+            bh.consume(splitter.split(noun));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.ConjugationBuffer;
+import com.learnwithhaxx.core.Conjugator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+public class ConjugatorBenchmark {
+
+    // Mix of what users add: regular, strong/irregular, modal, separable, inseparable, reflexive
+    static final String[] CORPUS = {
+            "machen", "lernen", "arbeiten", "öffnen", "studieren", "wandern", "sammeln", "rechnen",
+            "sein", "haben", "werden", "fahren", "sprechen", "nehmen", "lesen", "gehen", "essen", "wissen",
+            "können", "müssen", "wollen", "dürfen",
+            "aufstehen", "anrufen", "einkaufen", "mitnehmen", "zurückkommen", "fernsehen", "kennenlernen",
+            "verstehen", "bekommen", "erzählen", "gefallen", "übersetzen", "unterhalten",
+            "sich waschen", "sich freuen", "sich anziehen", "sich erinnern", "sich bedanken", "sich vorstellen"
+    };
+
+    private static final Conjugator.Tense[] TENSES = Conjugator.Tense.values();
+
+    @Param({"10000"})
+    public int listSize;
+
+    private String[] list;
+    private Conjugator.Verb[] analyzed;
+    private final ConjugationBuffer buffer = new ConjugationBuffer();
+
+    @Setup
+    public void setUp() {
+        analyzed = new Conjugator.Verb[CORPUS.length];
+        for (int i = 0; i < CORPUS.length; i++) {
+            analyzed[i] = Conjugator.analyze(CORPUS[i]);
+        }
+        list = Decks.verbs(listSize);
+    }
+
+    @Benchmark
+    public void conjugateCorpus(Blackhole bh) {
+        for (String verb : CORPUS) {
+            bh.consume(Conjugator.conjugate(verb));
+        }
+    }
+
+    @Benchmark
+    public void allTensesCorpus(Blackhole bh) {
+        for (String verb : CORPUS) {
+            Conjugator.Verb v = Conjugator.analyze(verb);
+            for (Conjugator.Tense tense : Conjugator.Tense.values()) {
+                bh.consume(v.get(tense));
+            }
+        }
+    }
+
+    /**
+     * Rebinding a table for already analysed verbs. With the gc profiler,
+     * gc.alloc.rate.norm should stay at 0 B/op; anything else is a regression.
+     */
+    @Benchmark
+    public void conjugateIntoBuffer(Blackhole bh) {
+        for (Conjugator.Verb verb : analyzed) {
+            for (Conjugator.Tense tense : TENSES) {
+                bh.consume(verb.conjugateInto(tense, buffer));
+            }
+        }
+        bh.consume(buffer);
+    }
+
+    /** Building the verb list: every verb analysed, only the present generated. */
+    @Benchmark
+    public void presentList(Blackhole bh) {
+        for (String verb : list) {
+            bh.consume(Conjugator.analyze(verb).get(Conjugator.Tense.PRAESENS));
+        }
+    }
+
+    /** The same list with every tense opened, the upper bound the lazy tenses avoid. */
+    @Benchmark
+    public void allTensesList(Blackhole bh) {
+        for (String verb : list) {
+            Conjugator.Verb v = Conjugator.analyze(verb);
+            for (Conjugator.Tense tense : TENSES) {
+                bh.consume(v.get(tense));
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.ContributionHistory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/** Opening the streak screen: bucketing every stored day of a long history into levels. */
+@State(Scope.Benchmark)
+public class ContributionHistoryBenchmark {
+
+    @Param({"1", "10"})
+    public int years;
+
+    private long today;
+    private String[] dates;
+    private int[] counts;
+
+    @Setup
+    public void setUp() {
+        today = ContributionHistory.epochDay(2026, 10, 19);
+        int days = years * 365;
+        dates = new String[days];
+        counts = new int[days];
+        Random random = new Random(7);
+        for (int i = 0; i < days; i++) {
+            dates[i] = ContributionHistory.isoDate(today - days + 1 + i);
+            counts[i] = random.nextInt(12);
+        }
+    }
+
+    @Benchmark
+    public ContributionHistory build() {
+        ContributionHistory history = new ContributionHistory(today - dates.length + 1, today);
+        for (int i = 0; i < dates.length; i++) {
+            history.setCount(dates[i], counts[i]);
+        }
+        return history;
+    }
+}
@@ -0,0 +1,50 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.Word;
+import com.learnwithhaxx.core.WordCsv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/** Export and import of a backup file, minus the I/O and database. */
+@State(Scope.Benchmark)
+public class CsvBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private List<Word> words;
+    private String[] lines;
+
+    @Setup
+    public void setUp() {
+        words = Decks.synthetic(rows, 0);
+        StringBuilder csv = new StringBuilder();
+        for (Word w : words) WordCsv.appendRow(csv, w);
+        lines = csv.toString().split("\n");
+    }
+
+    @Benchmark
+    public String export() {
+        StringBuilder csv = new StringBuilder();
+        csv.append(WordCsv.HEADER).append("\n");
+        for (Word w : words) WordCsv.appendRow(csv, w);
+        return csv.toString();
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        for (String line : lines) {
+            String[] parts = WordCsv.split(line);
+            for (String part : parts) {
+                bh.consume(WordCsv.unescape(part));
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.PracticeSource;
+import com.learnwithhaxx.core.VerbLexicon;
+import com.learnwithhaxx.core.Word;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/** Synthetic vocabulary decks with a fixed seed so runs are comparable. */
+final class Decks {
+
+    private static final String[] ARTICLES = {"der", "die", "das"};
+    private static final String[] CATEGORIES = {"Noun", "Verb", "Adjective", "Adverb", "Phrase"};
+
+    // Noun heads cover the lexicon, compound matches and each suffix rule
+    private static final String[] HEADS = {
+            "der Baum", "die Zeitung", "das Haus", "der Student", "die Lampe", "das Mädchen", "der Lehrer",
+            "das Ergebnis", "die Lehrerin", "der Tisch", "das Auto", "der Motor", "das Zentrum", "der Junge",
+            "die Hand", "das Spiel", "der Kaffee", "die Frau", "das Fenster", "der Platz"
+    };
+    private static final String[] MODIFIERS = {
+            "", "Apfel", "Kinder", "Stadt", "Schul", "Wasser", "Sommer", "Winter", "Arbeits", "Bahn",
+            "Haus", "Land", "Berg", "Wald", "Nacht", "Tages", "Welt", "Hand", "Straßen", "Zimmer"
+    };
+
+    private static final String[] REGULAR_VERBS = {
+            "machen", "lernen", "arbeiten", "öffnen", "studieren", "wandern", "sammeln", "rechnen",
+            "kaufen", "spielen", "wohnen", "fragen", "sagen", "hören", "brauchen", "zeigen",
+            "reisen", "tanzen", "legen", "stellen", "holen", "packen", "räumen", "bauen"
+    };
+    private static final String[] VERB_PREFIXES = {
+            "", "auf", "an", "ein", "mit", "zurück", "vor", "aus", "ab", "zu", "ver", "be", "er", "ent", "zer"
+    };
+
+    private Decks() {}
+
+    /**
+     * Verb list entries: every lexicon verb and some regular ones, bare and with each
+     * prefix, every other pass reflexive. Repeats once the combinations run out, which
+     * is fine for the callers since each entry is analysed on its own.
+     */
+    static String[] verbs(int size) {
+        List<String> bases = new ArrayList<>(new TreeSet<>(VerbLexicon.entries().keySet()));
+        for (String verb : REGULAR_VERBS) bases.add(verb);
+
+        String[] verbs = new String[size];
+        for (int i = 0; i < size; i++) {
+            String base = bases.get(i % bases.size());
+            int pass = i / bases.size();
+            String verb = VERB_PREFIXES[pass % VERB_PREFIXES.length] + base;
+            verbs[i] = (pass / VERB_PREFIXES.length) % 2 == 1 ? "sich " + verb : verb;
+        }
+        return verbs;
+    }
+
+    /** "der Apfelbaum"-style nouns: simple, compound and rule-declined, all distinct. */
+    static String[] nouns(int size) {
+        String[] nouns = new String[size];
+        for (int i = 0; i < size; i++) {
+            String head = HEADS[i % HEADS.length];
+            String modifier = MODIFIERS[(i / HEADS.length) % MODIFIERS.length];
+            int space = head.indexOf(' ');
+            String noun = head.substring(space + 1);
+            if (!modifier.isEmpty()) noun = modifier + noun.toLowerCase();
+            // Keep words distinct past the HEADS x MODIFIERS combinations
+            int round = i / (HEADS.length * MODIFIERS.length);
+            if (round > 0) noun = "Neu" + round + noun.toLowerCase();
+            nouns[i] = head.substring(0, space) + " " + noun;
+        }
+        return nouns;
+    }
+
+    /** newPercent of the words stay at level 0, the rest are spread 3:1 over Hard and Easy. */
+    static List<Word> synthetic(int size, int newPercent) {
+        Random random = new Random(42);
+        List<Word> words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String category = CATEGORIES[i % CATEGORIES.length];
+            String german = category.equals("Noun") ? ARTICLES[i % 3] + " Wort" + i : "wort" + i;
+            // Every seventh row needs quoting on export
+            String meaning = i % 7 == 0 ? "word, \"sense\" " + i : "word " + i;
+            Word w = new Word(1, german, meaning, "Das ist ein Beispiel mit Wort" + i + ".", category, "2024-01-01");
+            w.setId(i + 1);
+            int roll = random.nextInt(100);
+            w.setLevel(roll < newPercent ? 0 : (random.nextInt(4) == 0 ? 2 : 1));
+            words.add(w);
+        }
+        return words;
+    }
+
+    /**
+     * PracticeSource over a list. Each query scans the whole deck like
+     * ORDER BY RANDOM() LIMIT n does, keeping a uniform sample of n rows.
+     */
+    static final class InMemory implements PracticeSource {
+        private final List<Word> words;
+        private final Random random = new Random(7);
+
+        InMemory(List<Word> words) {
+            this.words = words;
+        }
+
+        @Override
+        public List<Word> randomWordsAtLevel(int level, int limit) {
+            return sample(level, false, limit);
+        }
+
+        @Override
+        public List<Word> randomReviewedWords(int limit) {
+            return sample(0, true, limit);
+        }
+
+        private List<Word> sample(int level, boolean reviewed, int limit) {
+            List<Word> picked = new ArrayList<>(limit);
+            if (limit <= 0) return picked;
+            int seen = 0;
+            for (Word w : words) {
+                boolean match = reviewed ? w.getLevel() > 0 : w.getLevel() == level;
+                if (!match) continue;
+                seen++;
+                if (picked.size() < limit) {
+                    picked.add(w);
+                } else {
+                    int j = random.nextInt(seen);
+                    if (j < limit) picked.set(j, w);
+                }
+            }
+            return picked;
+        }
+    }
+}
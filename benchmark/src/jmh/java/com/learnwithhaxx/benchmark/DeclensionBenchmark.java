@@ -0,0 +1,40 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.Declension;
+import com.learnwithhaxx.core.InflectedForms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** The background pass of the noun list and the search indexing, over a large deck. */
+@State(Scope.Benchmark)
+public class DeclensionBenchmark {
+
+    @Param({"20000"})
+    public int deckSize;
+
+    private String[] nouns;
+
+    @Setup
+    public void setUp() {
+        nouns = Decks.nouns(deckSize);
+    }
+
+    @Benchmark
+    public void declineDeck(Blackhole bh) {
+        for (String noun : nouns) {
+            bh.consume(Declension.decline(noun));
+        }
+    }
+
+    @Benchmark
+    public void indexDeck(Blackhole bh) {
+        for (String noun : nouns) {
+            bh.consume(InflectedForms.of(noun, null));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.FuzzyIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/** Typo search over a large deck, plus keeping the index in step with add/delete. */
+@State(Scope.Benchmark)
+public class FuzzySearchBenchmark {
+
+    @Param({"50000"})
+    public int deckSize;
+
+    // Misspelt, umlaut-free and correct queries
+    @Param({"Apfl", "schon", "Zeitumg", "Haustür"})
+    public String query;
+
+    private String[] nouns;
+    private FuzzyIndex index;
+
+    @Setup
+    public void setUp() {
+        nouns = Decks.nouns(deckSize);
+        index = new FuzzyIndex();
+        for (int i = 0; i < nouns.length; i++) {
+            index.add(i, nouns[i]);
+        }
+    }
+
+    @Benchmark
+    public List<FuzzyIndex.Match> search() {
+        return index.search(query);
+    }
+
+    @Benchmark
+    public int addAndRemove() {
+        int id = nouns.length;
+        index.add(id, "der Tippfehlerbaum");
+        index.remove(id, "der Tippfehlerbaum");
+        return index.size();
+    }
+}
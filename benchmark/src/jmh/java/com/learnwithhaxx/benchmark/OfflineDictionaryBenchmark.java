@@ -0,0 +1,65 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.OfflineDictionary;
+import com.learnwithhaxx.core.OfflineDictionaryWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/** Meaning autocomplete against a mapped dictionary of the bundled file's size class. */
+@State(Scope.Benchmark)
+public class OfflineDictionaryBenchmark {
+
+    @Param({"100000"})
+    public int entries;
+
+    // Typed so far: short prefix, longer prefix, exact word, no match
+    @Param({"Ap", "Apfelb", "der Apfelbaum", "Xyl"})
+    public String typed;
+
+    private File file;
+    private OfflineDictionary dictionary;
+
+    @Setup
+    public void setUp() throws IOException {
+        OfflineDictionaryWriter writer = new OfflineDictionaryWriter();
+        String[] nouns = Decks.nouns(entries);
+        for (int i = 0; i < nouns.length; i++) {
+            writer.add(nouns[i], "meaning " + i);
+        }
+        file = File.createTempFile("dictionary", ".dict");
+        try (OutputStream out = new FileOutputStream(file)) {
+            writer.write(out);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            dictionary = OfflineDictionary.map(channel, 0, channel.size());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public List<OfflineDictionary.Entry> complete() {
+        return dictionary.complete(typed, 8);
+    }
+
+    @Benchmark
+    public List<OfflineDictionary.Entry> lookup() {
+        return dictionary.lookup(typed);
+    }
+}
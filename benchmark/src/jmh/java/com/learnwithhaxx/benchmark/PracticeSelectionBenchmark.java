@@ -0,0 +1,49 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.PracticeSelector;
+import com.learnwithhaxx.core.Word;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+
+@State(Scope.Benchmark)
+public class PracticeSelectionBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int deckSize;
+
+    // Share of the deck still at level 0; 0 exercises the 80/20 review path
+    @Param({"0", "10"})
+    public int newPercent;
+
+    @Param({"20"})
+    public int sessionSize;
+
+    private Decks.InMemory deck;
+    private int[] ids;
+    private final Random random = new Random(42);
+
+    @Setup
+    public void setUp() {
+        deck = new Decks.InMemory(Decks.synthetic(deckSize, newPercent));
+        ids = new int[deckSize];
+        for (int i = 0; i < deckSize; i++) ids[i] = i + 1;
+    }
+
+    @Benchmark
+    public List<Word> select() {
+        return PracticeSelector.select(deck, sessionSize);
+    }
+
+    // Match/Memory rounds: pick a handful of ids out of the whole deck
+    @Benchmark
+    public int[] sampleRound() {
+        return PracticeSelector.sampleIds(ids, sessionSize, random);
+    }
+}
@@ -0,0 +1,40 @@
+package com.learnwithhaxx.benchmark;
+
+import com.learnwithhaxx.core.VerbLexicon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Lookup throughput: every listed verb, and regular verbs that miss the table. */
+@State(Scope.Benchmark)
+public class VerbLexiconBenchmark {
+
+    private static final String[] REGULAR = {
+            "machen", "lernen", "arbeiten", "öffnen", "studieren", "wandern", "sammeln", "rechnen",
+            "kaufen", "spielen", "wohnen", "fragen", "sagen", "hören", "brauchen", "zeigen"
+    };
+
+    private String[] irregular;
+
+    @Setup
+    public void setUp() {
+        irregular = VerbLexicon.entries().keySet().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void lookupListed(Blackhole bh) {
+        for (String verb : irregular) {
+            bh.consume(VerbLexicon.lookup(verb));
+        }
+    }
+
+    @Benchmark
+    public void lookupRegular(Blackhole bh) {
+        for (String verb : REGULAR) {
+            bh.consume(VerbLexicon.lookup(verb));
+        }
+    }
+}
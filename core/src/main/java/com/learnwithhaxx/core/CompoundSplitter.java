@@ -0,0 +1,146 @@
+package com.learnwithhaxx.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Splits compound nouns into known words: Haustürschlüssel -> haus, tür,
+ * schlüssel. The lexicon is a trie over the bundled compound_parts.txt, the
+ * nouns in {@link NounLexicon} and whatever the caller adds from the deck. A
+ * dynamic program over the positions of the word finds the split with the fewest
+ * parts, letting a linking element (Fugen-s, -n, -en, -es, -er, -e) follow any
+ * part but the last: Arbeit-s-platz, Sonne-n-blume.
+ */
+public final class CompoundSplitter {
+
+    private static final String RESOURCE = "compound_parts.txt";
+    private static final String[] LINKS = {"s", "es", "n", "en", "ns", "er", "e"};
+    private static final int MIN_PART = 3;
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>(4);
+        int refs; // times added and not removed; a word while > 0
+    }
+
+    private final Node root = new Node();
+
+    /** Splitter over the bundled base list and the noun lexicon. */
+    public static CompoundSplitter withBaseLexicon() {
+        CompoundSplitter splitter = new CompoundSplitter();
+        InputStream in = CompoundSplitter.class.getResourceAsStream(RESOURCE);
+        if (in != null) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) splitter.add(line);
+                }
+            } catch (IOException e) {
+                // Whatever was read still splits; the deck adds the rest
+            }
+        }
+        // Plurals often appear as the first part: Wörterbuch, Bücherregal
+        for (NounLexicon.Entry entry : NounLexicon.entries()) {
+            splitter.add(entry.noun);
+            if (entry.plural != null) splitter.add(entry.plural);
+        }
+        return splitter;
+    }
+
+    /** Adds a word; "der Apfel" is added as apfel. Short words are ignored. */
+    public synchronized void add(String word) {
+        String w = bare(word);
+        if (w.length() < MIN_PART) return;
+        Node node = root;
+        for (int i = 0; i < w.length(); i++) {
+            char c = w.charAt(i);
+            Node next = node.children.get(c);
+            if (next == null) {
+                next = new Node();
+                node.children.put(c, next);
+            }
+            node = next;
+        }
+        node.refs++;
+    }
+
+    /** Undoes one {@link #add}; a word also in the base lexicon stays known. */
+    public synchronized void remove(String word) {
+        String w = bare(word);
+        Node node = root;
+        for (int i = 0; i < w.length() && node != null; i++) {
+            node = node.children.get(w.charAt(i));
+        }
+        if (node != null && node.refs > 0) node.refs--;
+    }
+
+    /**
+     * Lower-case parts of a compound, without linking elements, or an empty list
+     * if the word is not made of at least two known words.
+     */
+    public synchronized List<String> split(String word) {
+        String w = bare(word);
+        int n = w.length();
+        if (n < 2 * MIN_PART) return Collections.emptyList();
+
+        // parts[i]: fewest parts covering w[0, i); from[i] / partEnd[i]: how i was reached
+        int[] parts = new int[n + 1];
+        int[] from = new int[n + 1];
+        int[] partEnd = new int[n + 1];
+        for (int i = 1; i <= n; i++) parts[i] = Integer.MAX_VALUE;
+
+        for (int start = 0; start < n; start++) {
+            if (parts[start] == Integer.MAX_VALUE) continue;
+            Node node = root;
+            for (int end = start; end < n; end++) {
+                node = node.children.get(w.charAt(end));
+                if (node == null) break;
+                int len = end + 1 - start;
+                if (node.refs == 0 || len < MIN_PART) continue;
+                // The word itself is usually in the lexicon (the deck is added); it is not a split
+                if (len == n) continue;
+
+                reach(parts, from, partEnd, start, end + 1, end + 1);
+                // A linking element may follow any part but the last
+                for (String link : LINKS) {
+                    int linked = end + 1 + link.length();
+                    if (linked < n && w.startsWith(link, end + 1)) {
+                        reach(parts, from, partEnd, start, end + 1, linked);
+                    }
+                }
+            }
+        }
+
+        if (parts[n] == Integer.MAX_VALUE || parts[n] < 2) return Collections.emptyList();
+        List<String> result = new ArrayList<>(parts[n]);
+        for (int i = n; i > 0; i = from[i]) {
+            result.add(w.substring(from[i], partEnd[i]));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static void reach(int[] parts, int[] from, int[] partEnd, int start, int end, int next) {
+        // Fewer parts first; on a tie prefer the longer part over a linking element (Kinder-zimmer)
+        if (parts[start] + 1 < parts[next] || (parts[start] + 1 == parts[next] && end > partEnd[next])) {
+            parts[next] = parts[start] + 1;
+            from[next] = start;
+            partEnd[next] = end;
+        }
+    }
+
+    private static String bare(String word) {
+        String w = word.trim().toLowerCase(Locale.GERMAN);
+        int space = w.lastIndexOf(' ');
+        return space >= 0 ? w.substring(space + 1) : w;
+    }
+}
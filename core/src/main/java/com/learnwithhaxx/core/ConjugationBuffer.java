@@ -0,0 +1,94 @@
+package com.learnwithhaxx.core;
+
+/**
+ * Reusable output for {@link Conjugator.Verb#conjugateInto}: one growable char
+ * slot per person (0 = ich … 5 = sie/Sie). Once the slots have grown to fit the
+ * longest form, filling the buffer again allocates nothing. On Android a slot
+ * can be bound with TextView.setText(chars(person), 0, length(person)).
+ */
+public final class ConjugationBuffer {
+
+    private static final int PERSONS = 6;
+
+    private final char[][] slots = new char[PERSONS][];
+    private final int[] lengths = new int[PERSONS];
+
+    public ConjugationBuffer() {
+        for (int p = 0; p < PERSONS; p++) {
+            slots[p] = new char[32];
+            lengths[p] = -1;
+        }
+    }
+
+    /** False where the tense has no form, e.g. ich in the Imperativ. */
+    public boolean has(int person) {
+        return lengths[person] >= 0;
+    }
+
+    public int length(int person) {
+        return Math.max(lengths[person], 0);
+    }
+
+    /** Backing array of a slot; only the first length(person) chars are valid. */
+    public char[] chars(int person) {
+        return slots[person];
+    }
+
+    public boolean contentEquals(int person, String form) {
+        if (!has(person)) return form == null;
+        if (form == null || form.length() != lengths[person]) return false;
+        char[] slot = slots[person];
+        for (int i = 0; i < form.length(); i++) {
+            if (slot[i] != form.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /** Allocates; for callers that need to keep the form. */
+    public String toString(int person) {
+        return has(person) ? new String(slots[person], 0, lengths[person]) : null;
+    }
+
+    public Conjugator.Conjugation toConjugation() {
+        return new Conjugator.Conjugation(
+                toString(0), toString(1), toString(2), toString(3), toString(4), toString(5));
+    }
+
+    void clear(int person) {
+        lengths[person] = -1;
+    }
+
+    void clearAll() {
+        for (int p = 0; p < PERSONS; p++) lengths[p] = -1;
+    }
+
+    ConjugationBuffer start(int person) {
+        lengths[person] = 0;
+        return this;
+    }
+
+    ConjugationBuffer append(int person, String s) {
+        int n = s.length();
+        int len = lengths[person];
+        ensureCapacity(person, len + n);
+        s.getChars(0, n, slots[person], len);
+        lengths[person] = len + n;
+        return this;
+    }
+
+    ConjugationBuffer append(int person, char c) {
+        int len = lengths[person];
+        ensureCapacity(person, len + 1);
+        slots[person][len] = c;
+        lengths[person] = len + 1;
+        return this;
+    }
+
+    private void ensureCapacity(int person, int needed) {
+        char[] slot = slots[person];
+        if (needed <= slot.length) return;
+        char[] grown = new char[Math.max(needed, slot.length * 2)];
+        System.arraycopy(slot, 0, grown, 0, lengths[person]);
+        slots[person] = grown;
+    }
+}
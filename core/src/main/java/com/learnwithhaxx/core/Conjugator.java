@@ -0,0 +1,396 @@
+package com.learnwithhaxx.core;
+
+public class Conjugator {
+
+    public enum Tense { PRAESENS, PRAETERITUM, PERFEKT, FUTUR_I, KONJUNKTIV_II, IMPERATIV }
+
+    private static final int TENSE_COUNT = Tense.values().length;
+
+    public static class Conjugation {
+        // For the Imperativ only du, wir, ihr and sieSie are set
+        public String ich, du, erSieEs, wir, ihr, sieSie;
+
+        public Conjugation(String ich, String du, String erSieEs, String wir, String ihr, String sieSie) {
+            this.ich = ich;
+            this.du = du;
+            this.erSieEs = erSieEs;
+            this.wir = wir;
+            this.ihr = ihr;
+            this.sieSie = sieSie;
+        }
+
+        // person: 0 = ich, 1 = du, 2 = er/sie/es, 3 = wir, 4 = ihr, 5 = sie/Sie
+        public String get(int person) {
+            switch (person) {
+                case 0: return ich;
+                case 1: return du;
+                case 2: return erSieEs;
+                case 3: return wir;
+                case 4: return ihr;
+                default: return sieSie;
+            }
+        }
+
+        public void set(int person, String form) {
+            switch (person) {
+                case 0: ich = form; break;
+                case 1: du = form; break;
+                case 2: erSieEs = form; break;
+                case 3: wir = form; break;
+                case 4: ihr = form; break;
+                default: sieSie = form; break;
+            }
+        }
+    }
+
+    private static final String[] HABEN = {"habe", "hast", "hat", "haben", "habt", "haben"};
+    private static final String[] SEIN = {"bin", "bist", "ist", "sind", "seid", "sind"};
+    private static final String[] WERDEN = {"werde", "wirst", "wird", "werden", "werdet", "werden"};
+    private static final String[] WUERDEN = {"würde", "würdest", "würde", "würden", "würdet", "würden"};
+    private static final String[] REFLEXIVE = {"mich", "dich", "sich", "uns", "euch", "sich"};
+
+    /**
+     * A verb analysed once (reflexive, prefixes, lexicon entry). Each tense is
+     * generated on first access and cached, so screens that only show the
+     * present never pay for the other tenses.
+     */
+    public static class Verb {
+        private final String infinitive;
+        private final boolean reflexive;
+        private final PrefixAnalyzer.Analysis parts;
+        private final VerbLexicon.Entry entry;
+        // Bare forms of the simple tenses, before prefixes and pronouns are added
+        private final Conjugation[] bare = new Conjugation[TENSE_COUNT];
+        private final boolean[] prepared = new boolean[TENSE_COUNT];
+        private final Conjugation[] tenses = new Conjugation[TENSE_COUNT];
+        private final boolean[] generated = new boolean[TENSE_COUNT];
+        private String partizip;
+        private String auxiliary;
+
+        Verb(String infinitive, boolean reflexive) {
+            this.infinitive = infinitive;
+            this.reflexive = reflexive;
+            this.parts = PrefixAnalyzer.analyze(infinitive);
+            this.entry = VerbLexicon.lookup(parts.base);
+        }
+
+        public String getInfinitive() { return infinitive; }
+        public boolean isReflexive() { return reflexive; }
+
+        /** Returns the paradigm for a tense, or null if the verb has none (modal imperative). */
+        public Conjugation get(Tense tense) {
+            int i = tense.ordinal();
+            if (!generated[i]) {
+                ConjugationBuffer buffer = new ConjugationBuffer();
+                tenses[i] = conjugateInto(tense, buffer) ? buffer.toConjugation() : null;
+                generated[i] = true;
+            }
+            return tenses[i];
+        }
+
+        /**
+         * Writes a tense into the caller's buffer, one slot per person. Returns false
+         * and empties every slot if the verb has no such paradigm. Once a tense has
+         * been written for this verb, writing it again allocates nothing.
+         */
+        public boolean conjugateInto(Tense tense, ConjugationBuffer out) {
+            switch (tense) {
+                case PERFEKT:
+                    writeCompound(getAuxiliary().equals("sein") ? SEIN : HABEN, getPartizip(), out);
+                    return true;
+                case FUTUR_I:
+                    writeCompound(WERDEN, infinitive, out);
+                    return true;
+                case KONJUNKTIV_II:
+                    // Weak verbs use the würde-form; their synthetic form equals the Präteritum
+                    if (entry == null) {
+                        writeCompound(WUERDEN, infinitive, out);
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            Conjugation forms = bare(tense);
+            if (forms == null) {
+                out.clearAll();
+                return false;
+            }
+            boolean imperative = tense == Tense.IMPERATIV;
+            for (int p = 0; p < 6; p++) {
+                String form = forms.get(p);
+                if (form == null) {
+                    out.clear(p);
+                    continue;
+                }
+                // Inseparable prefix + form (+ wir/Sie) + reflexive pronoun + separable prefix
+                out.start(p).append(p, parts.inseparable).append(p, form);
+                if (imperative && p == 3) out.append(p, " wir");
+                else if (imperative && p == 5) out.append(p, " Sie");
+                if (reflexive) out.append(p, ' ').append(p, REFLEXIVE[p]);
+                if (!parts.separable.isEmpty()) out.append(p, ' ').append(p, parts.separable);
+            }
+            return true;
+        }
+
+        public String getPartizip() {
+            if (partizip == null) partizip = buildPartizip();
+            return partizip;
+        }
+
+        /** "haben" or "sein", as used in the Perfekt. */
+        public String getAuxiliary() {
+            if (auxiliary == null) auxiliary = findAuxiliary();
+            return auxiliary;
+        }
+
+        private String findAuxiliary() {
+            if (reflexive) return "haben";
+
+            VerbLexicon.BaseVerb listed = VerbLexicon.lookupBase(infinitive);
+            if (listed != null && listed.auxiliary != null) return auxiliaryName(listed.auxiliary);
+
+            String aux = null;
+            if (entry != null) {
+                aux = entry.auxiliary;
+            } else {
+                VerbLexicon.BaseVerb base = VerbLexicon.lookupBase(parts.base);
+                if (base != null) aux = base.auxiliary;
+            }
+            if (aux == null) return "haben";
+
+            // be-/ge- make verbs transitive (bekommen, gefallen); mixed verbs fall back to haben (erfahren)
+            if (!parts.inseparable.isEmpty()) {
+                if (parts.inseparable.equals("be") || parts.inseparable.equals("ge") || aux.length() > 1) {
+                    return "haben";
+                }
+            }
+            return auxiliaryName(aux);
+        }
+
+        private Conjugation bare(Tense tense) {
+            int i = tense.ordinal();
+            if (!prepared[i]) {
+                bare[i] = buildBare(tense);
+                prepared[i] = true;
+            }
+            return bare[i];
+        }
+
+        private Conjugation buildBare(Tense tense) {
+            switch (tense) {
+                case PRAESENS:
+                    return getBaseConjugation(parts.base, entry);
+                case PRAETERITUM:
+                    return expand(praeteritumStem());
+                case KONJUNKTIV_II:
+                    return expand(konjunktivStem());
+                case IMPERATIV:
+                    return imperative();
+                default:
+                    return null;
+            }
+        }
+
+        // Auxiliary + (reflexive pronoun) + non-finite form: "habe mich gewaschen", "werde aufstehen"
+        private void writeCompound(String[] aux, String nonFinite, ConjugationBuffer out) {
+            for (int p = 0; p < 6; p++) {
+                out.start(p).append(p, aux[p]).append(p, ' ');
+                if (reflexive) out.append(p, REFLEXIVE[p]).append(p, ' ');
+                out.append(p, nonFinite);
+            }
+        }
+
+        private String praeteritumStem() {
+            if (entry != null) return entry.praeteritum;
+            return weakPraeteritum(stemOf(parts.base));
+        }
+
+        private String konjunktivStem() {
+            if (entry.konjunktiv != null) return entry.konjunktiv;
+
+            String praet = entry.praeteritum;
+            // Weak Präteritum (backte, haute) stays as is; mixed and strong verbs take an umlaut
+            if (praet.equals(weakPraeteritum(stemOf(parts.base)))) return praet;
+            String k = umlaut(praet);
+            return k.endsWith("e") ? k : k + "e";
+        }
+
+        private String buildPartizip() {
+            String base = parts.base;
+            String p;
+            if (entry != null) {
+                p = entry.partizip;
+            } else {
+                String stem = stemOf(base);
+                String ending = needsLinkingE(stem) ? "et" : "t";
+                boolean noGe = base.endsWith("ieren")
+                        || (parts.inseparable.isEmpty() && PrefixAnalyzer.hasInseparableOnset(base));
+                p = (noGe ? "" : "ge") + stem + ending;
+            }
+
+            if (!parts.inseparable.isEmpty()) {
+                p = parts.inseparable + (p.startsWith("ge") ? p.substring(2) : p);
+            }
+            return parts.separable + p;
+        }
+
+        // Bare du, wir/Sie and ihr forms; conjugateInto adds the pronouns
+        private Conjugation imperative() {
+            String du, ihr, wirSie;
+            if (entry != null && entry.imperative != null) {
+                if (entry.imperative.length == 0) return null;
+                du = entry.imperative[0];
+                ihr = entry.imperative[1];
+                wirSie = entry.imperative[2];
+            } else {
+                Conjugation present = bare(Tense.PRAESENS);
+                String stem = stemOf(parts.base);
+                ihr = present.ihr;
+                wirSie = present.wir;
+
+                String changed = entry != null ? entry.presentStem : null;
+                if (changed != null && changed.indexOf('ä') < 0 && changed.indexOf('ö') < 0) {
+                    du = changed; // e -> i(e): gib, lies, nimm
+                } else if (parts.base.endsWith("eln")) {
+                    du = parts.base.substring(0, parts.base.length() - 3) + "le";
+                } else if (needsLinkingE(stem) || parts.base.endsWith("ern")) {
+                    du = stem + "e";
+                } else {
+                    du = stem;
+                }
+            }
+            return new Conjugation(null, du, null, wirSie, ihr, wirSie);
+        }
+    }
+
+    public static Verb analyze(String input) {
+        if (input == null || input.isEmpty()) return null;
+
+        String raw = input.toLowerCase().trim();
+        boolean isReflexive = false;
+        String baseVerb = raw;
+
+        // 1. Handle Reflexive (sich ...)
+        if (raw.startsWith("sich ")) {
+            isReflexive = true;
+            baseVerb = raw.substring(5).trim();
+        }
+        if (baseVerb.isEmpty()) return null;
+
+        // 2. Split off separable / inseparable prefixes (longest match, checked against the lexicon)
+        return new Verb(baseVerb, isReflexive);
+    }
+
+    public static Conjugation conjugate(String input) {
+        Verb verb = analyze(input);
+        return verb == null ? null : verb.get(Tense.PRAESENS);
+    }
+
+    private static Conjugation getBaseConjugation(String verb, VerbLexicon.Entry entry) {
+        // --- Fully irregular paradigms (sein, haben, modal verbs...) ---
+        if (entry != null && entry.present != null) {
+            String[] p = entry.present;
+            return new Conjugation(p[0], p[1], p[2], p[3], p[4], p[5]);
+        }
+
+        // --- Stem Extraction ---
+        String stem = stemOf(verb);
+
+        // --- Strong Verbs Stem Changes (e -> i/ie, a -> ä, au -> äu) ---
+        String duStem = stem;
+        String erStem = stem;
+        if (entry != null && entry.presentStem != null) {
+            duStem = entry.presentStem;
+            erStem = entry.presentStem;
+        }
+
+        // Each form is built once: stems in -t, -d and consonant + m/n (öffnen, atmen) take a linking e
+        boolean linkingE = needsLinkingE(stem);
+
+        // Special case for -eln (handeln -> ich handle)
+        String ich = verb.endsWith("eln") ? verb.substring(0, verb.length() - 3) + "le" : stem + "e";
+
+        String du;
+        if (duStem.endsWith("s") || duStem.endsWith("ß") || duStem.endsWith("z") || duStem.endsWith("x")) {
+            du = duStem + "t"; // Stems in -s, -ß, -z, -x (drop 's' in -st)
+        } else if (linkingE && duStem.equals(stem)) {
+            du = stem + "est"; // Strong verbs that changed stem need no linking e (du hältst)
+        } else {
+            du = duStem + "st";
+        }
+
+        String er;
+        if (erStem.equals(stem)) {
+            er = stem + (linkingE ? "et" : "t");
+        } else {
+            er = erStem.endsWith("t") ? erStem : erStem + "t"; // Changed stems in -t take no ending (er hält, er tritt)
+        }
+
+        String ihr = stem + (linkingE ? "et" : "t");
+        String wir = verb; // Usually same as infinitive
+
+        return new Conjugation(ich, du, er, wir, ihr, verb);
+    }
+
+    // Personal endings on a past stem: fuhr/fuhrst/fuhren, dachte/dachtest/dachten
+    private static Conjugation expand(String stem) {
+        if (stem.endsWith("e")) {
+            return new Conjugation(stem, stem + "st", stem, stem + "n", stem + "t", stem + "n");
+        }
+        boolean dental = stem.endsWith("t") || stem.endsWith("d");
+        boolean sibilant = stem.endsWith("s") || stem.endsWith("ß") || stem.endsWith("z");
+        return new Conjugation(
+                stem,
+                stem + (dental || sibilant ? "est" : "st"),
+                stem,
+                stem + "en",
+                stem + (dental ? "et" : "t"),
+                stem + "en");
+    }
+
+    private static String stemOf(String verb) {
+        if (verb.endsWith("en")) return verb.substring(0, verb.length() - 2);
+        if (verb.endsWith("n")) return verb.substring(0, verb.length() - 1);
+        return verb;
+    }
+
+    private static String weakPraeteritum(String stem) {
+        return stem + (needsLinkingE(stem) ? "ete" : "te");
+    }
+
+    // arbeit-e-st, red-e-t, öffn-e-t, atm-e-t; but lern-t, wohn-t, komm-t
+    private static boolean needsLinkingE(String stem) {
+        int n = stem.length();
+        if (n == 0) return false;
+        char last = stem.charAt(n - 1);
+        if (last == 't' || last == 'd') return true;
+        if ((last == 'm' || last == 'n') && n >= 2) {
+            char before = stem.charAt(n - 2);
+            if (before == 'h') return n >= 3 && stem.charAt(n - 3) == 'c'; // rechn-e-t, but wohn-t
+            return "aeiouäöüylrmn".indexOf(before) < 0;
+        }
+        return false;
+    }
+
+    // Umlaut on the last a/o/u that is not part of a diphthong: fuhr -> führ, konnte -> könnte
+    private static String umlaut(String form) {
+        for (int i = form.length() - 1; i >= 0; i--) {
+            char c = form.charAt(i);
+            char replacement;
+            if (c == 'a') replacement = 'ä';
+            else if (c == 'o') replacement = 'ö';
+            else if (c == 'u') replacement = 'ü';
+            else continue;
+
+            if (c == 'u' && i > 0 && (form.charAt(i - 1) == 'a' || form.charAt(i - 1) == 'e')) return form;
+            return form.substring(0, i) + replacement + form.substring(i + 1);
+        }
+        return form;
+    }
+
+    private static String auxiliaryName(String code) {
+        return code.charAt(0) == 's' ? "sein" : "haben";
+    }
+}
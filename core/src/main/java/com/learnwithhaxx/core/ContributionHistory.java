@@ -0,0 +1,145 @@
+package com.learnwithhaxx.core;
+
+/**
+ * Activity levels laid out for a contribution heatmap: one column per week, Sunday on top,
+ * oldest week first. Levels are bucketed with {@link StreakCalculator#levelFromCount} as the
+ * counts come in, so drawing only reads a byte per day.
+ *
+ * <p>Days are counted as epoch days (days since 1970-01-01) with plain calendar arithmetic,
+ * since java.time is not available on every supported Android version.
+ */
+public final class ContributionHistory {
+
+    private final long firstDay; // a Sunday
+    private final long lastDay;
+    private final byte[] levels;
+    private final byte[] monthStarts; // per week: month 0-11 whose 1st falls in it, or -1
+
+    /** Whole weeks from the Sunday on or before {@code fromDay} up to {@code toDay}. */
+    public ContributionHistory(long fromDay, long toDay) {
+        firstDay = fromDay - dayOfWeek(fromDay);
+        lastDay = Math.max(toDay, firstDay);
+        levels = new byte[(int) (lastDay - firstDay + 1)];
+
+        monthStarts = new byte[weeks()];
+        for (int week = 0; week < monthStarts.length; week++) {
+            monthStarts[week] = -1;
+            for (int d = 0; d < 7; d++) {
+                long day = firstDay + week * 7L + d;
+                if (day > lastDay) break;
+                int ymd = civil(day);
+                if (ymd % 100 == 1) {
+                    monthStarts[week] = (byte) (ymd / 100 % 100 - 1);
+                    break;
+                }
+            }
+        }
+    }
+
+    /** The last {@code weeks} weeks up to and including {@code today}. */
+    public static ContributionHistory endingOn(long today, int weeks) {
+        return new ContributionHistory(today - (weeks - 1) * 7L, today);
+    }
+
+    /** Records a day's word count; dates outside the range or malformed are ignored. */
+    public void setCount(String date, int count) {
+        long day = epochDay(date);
+        if (day < firstDay || day > lastDay) return;
+        levels[(int) (day - firstDay)] = (byte) StreakCalculator.levelFromCount(count);
+    }
+
+    public int weeks() {
+        return (levels.length + 6) / 7;
+    }
+
+    /** Level of the given cell, or -1 for cells after the last day. */
+    public int level(int week, int dayOfWeek) {
+        int index = week * 7 + dayOfWeek;
+        return index < levels.length ? levels[index] : -1;
+    }
+
+    /** Month (0 = January) whose first day falls in the week, or -1. */
+    public int monthStartingIn(int week) {
+        return monthStarts[week];
+    }
+
+    /** Calendar year of the week's Saturday, and so of any month starting in that week. */
+    public int yearOf(int week) {
+        return civil(firstDay + week * 7L + 6) / 10000;
+    }
+
+    public String firstDate() {
+        return isoDate(firstDay);
+    }
+
+    public String lastDate() {
+        return isoDate(lastDay);
+    }
+
+    /** 0 = Sunday. */
+    public static int dayOfWeek(long epochDay) {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(epochDay + 4, 7L);
+    }
+
+    public static long epochDay(int year, int month, int day) {
+        // Days-from-civil over 400-year eras, month 1-12
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097L + doe - 719468;
+    }
+
+    /** Epoch day of a "yyyy-MM-dd" date, or Long.MIN_VALUE if it isn't one. */
+    public static long epochDay(String date) {
+        if (date == null || date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(date, 0, 4), month = digits(date, 5, 7), day = digits(date, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) return Long.MIN_VALUE;
+        return epochDay(year, month, day);
+    }
+
+    public static String isoDate(long epochDay) {
+        int ymd = civil(epochDay);
+        int year = ymd / 10000, month = ymd / 100 % 100, day = ymd % 100;
+        char[] c = new char[10];
+        c[0] = (char) ('0' + year / 1000 % 10);
+        c[1] = (char) ('0' + year / 100 % 10);
+        c[2] = (char) ('0' + year / 10 % 10);
+        c[3] = (char) ('0' + year % 10);
+        c[4] = '-';
+        c[5] = (char) ('0' + month / 10);
+        c[6] = (char) ('0' + month % 10);
+        c[7] = '-';
+        c[8] = (char) ('0' + day / 10);
+        c[9] = (char) ('0' + day % 10);
+        return new String(c);
+    }
+
+    // Civil date packed as yyyymmdd, so callers need no holder object
+    private static int civil(long epochDay) {
+        long z = epochDay + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+        return year * 10000 + month * 100 + day;
+    }
+
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,227 @@
+package com.learnwithhaxx.core;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Declines nouns entered as "der Apfel": all four cases in singular and plural.
+ * Plurals come from the exceptions in {@link NounLexicon} (also matched as the
+ * last part of a compound, Apfelbaum -> Apfelbäume), otherwise from suffix rules
+ * by gender. Paradigms are cached per word.
+ */
+public final class Declension {
+
+    public enum Case { NOMINATIV, AKKUSATIV, DATIV, GENITIV }
+
+    private static final String[][] SINGULAR_ARTICLES = {
+            {"der", "den", "dem", "des"},   // masculine
+            {"die", "die", "der", "der"},   // feminine
+            {"das", "das", "dem", "des"}    // neuter
+    };
+    private static final String[] PLURAL_ARTICLES = {"die", "die", "den", "der"};
+
+    // Compound matches need a real head noun, so "Rat" does not decline "Apparat"
+    private static final int MIN_HEAD_LENGTH = 4;
+    private static final int MIN_MODIFIER_LENGTH = 3;
+
+    private static final int CACHE_SIZE = 1024;
+
+    private static final Map<String, Paradigm> CACHE = new LinkedHashMap<String, Paradigm>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Paradigm> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public static final class Paradigm {
+        public final Gender gender;
+        private final String[] singular; // bare forms by Case ordinal
+        private final String[] plural;   // null if the noun has no plural
+
+        Paradigm(Gender gender, String[] singular, String[] plural) {
+            this.gender = gender;
+            this.singular = singular;
+            this.plural = plural;
+        }
+
+        public boolean hasPlural() { return plural != null; }
+
+        /** Bare singular form: Apfel, Apfels. */
+        public String singular(Case c) { return singular[c.ordinal()]; }
+
+        /** Bare plural form, or null: Äpfel, Äpfeln. */
+        public String plural(Case c) { return plural == null ? null : plural[c.ordinal()]; }
+
+        /** With article: "des Apfels". */
+        public String singularWithArticle(Case c) {
+            return SINGULAR_ARTICLES[gender.ordinal()][c.ordinal()] + " " + singular[c.ordinal()];
+        }
+
+        /** With article, or null: "den Äpfeln". */
+        public String pluralWithArticle(Case c) {
+            return plural == null ? null : PLURAL_ARTICLES[c.ordinal()] + " " + plural[c.ordinal()];
+        }
+    }
+
+    private Declension() {}
+
+    /** Cached paradigm for "der Apfel", or null if the word has no leading article. */
+    public static Paradigm get(String germanWord) {
+        if (germanWord == null) return null;
+        String key = germanWord.trim();
+        synchronized (CACHE) {
+            Paradigm cached = CACHE.get(key);
+            if (cached != null) return cached;
+        }
+        Paradigm p = decline(key);
+        if (p != null) {
+            synchronized (CACHE) {
+                CACHE.put(key, p);
+            }
+        }
+        return p;
+    }
+
+    /** Uncached; for background passes that would only churn the cache. */
+    public static Paradigm decline(String germanWord) {
+        if (germanWord == null) return null;
+        String word = germanWord.trim();
+        int space = word.indexOf(' ');
+        if (space <= 0) return null;
+        Gender gender = Gender.fromArticle(word.substring(0, space));
+        String noun = word.substring(space + 1).trim();
+        if (gender == null || noun.isEmpty() || noun.indexOf(' ') >= 0) return null;
+
+        NounLexicon.Entry entry = NounLexicon.lookup(noun);
+        String modifier = "";
+        if (entry == null || entry.gender != gender) {
+            entry = null;
+            // Compound: decline the longest known head (Apfel|baum)
+            for (int i = MIN_MODIFIER_LENGTH; i <= noun.length() - MIN_HEAD_LENGTH; i++) {
+                NounLexicon.Entry head = NounLexicon.lookup(noun.substring(i));
+                if (head != null && head.gender == gender) {
+                    entry = head;
+                    modifier = noun.substring(0, i);
+                    break;
+                }
+            }
+        }
+
+        boolean weak = entry != null ? entry.weak != null : isWeak(noun, gender);
+        String pluralForm;
+        String genitive;
+        if (entry != null) {
+            pluralForm = entry.plural == null ? null : modifier + lowerHead(entry.plural, modifier);
+            genitive = entry.genitive == null ? null : modifier + lowerHead(entry.genitive, modifier);
+        } else {
+            pluralForm = pluralByRule(noun, gender);
+            genitive = null;
+        }
+
+        String oblique = noun;
+        if (weak) {
+            oblique = entry != null && !entry.weak.isEmpty() ? modifier + lowerHead(entry.weak, modifier) : weakForm(noun);
+        }
+        if (genitive == null) {
+            if (gender == Gender.FEMININE) genitive = noun;
+            else if (weak) genitive = oblique;
+            else genitive = noun + genitiveEnding(noun);
+        }
+
+        String[] singular = {noun, oblique, oblique, genitive};
+        String[] plural = null;
+        if (pluralForm != null) {
+            // Dative plural adds -n unless the plural already ends in -n or -s
+            String dative = pluralForm.endsWith("n") || pluralForm.endsWith("s") ? pluralForm : pluralForm + "n";
+            plural = new String[]{pluralForm, pluralForm, dative, pluralForm};
+        }
+        return new Paradigm(gender, singular, plural);
+    }
+
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    // "Apfel" + "Bäume" -> "Apfelbäume"
+    private static String lowerHead(String form, String modifier) {
+        return modifier.isEmpty() ? form : form.toLowerCase(Locale.GERMAN);
+    }
+
+    private static String pluralByRule(String noun, Gender gender) {
+        String n = noun.toLowerCase(Locale.GERMAN);
+        if (n.endsWith("nis")) return noun + "se";                       // Ergebnisse, Erlaubnisse
+        if (n.endsWith("in") && gender == Gender.FEMININE) return noun + "nen"; // Lehrerinnen
+        if (n.endsWith("ismus")) return noun.substring(0, noun.length() - 2) + "en"; // Organismen
+        if (n.endsWith("um") && gender == Gender.NEUTER) return noun.substring(0, noun.length() - 2) + "en"; // Zentren
+        if (endsWithVowel(n, "aiouy") && !endsWithVowel(n.substring(0, n.length() - 1), "aeiouäöü")) {
+            return noun + "s";                                           // Autos, Omas, Handys; not Frau
+        }
+
+        switch (gender) {
+            case FEMININE:
+                if (n.endsWith("e") || unstressed(n, "el") || unstressed(n, "er")) return noun + "n"; // Lampen, Regeln
+                return noun + "en";                                      // Zeitungen, Frauen
+            case MASCULINE:
+                if (n.endsWith("ee")) return noun + "s";                 // Kaffees, Tees
+                if (n.endsWith("e")) return noun + "n";                  // Kollegen
+                if (unstressed(n, "er") || unstressed(n, "el") || unstressed(n, "en")) return noun; // Lehrer, Schlüssel
+                if (isWeak(noun, gender) || n.endsWith("or")) return noun + "en"; // Studenten, Motoren
+                return noun + "e";                                       // Tische, Hunde
+            default:
+                if (n.endsWith("chen") || n.endsWith("lein")) return noun;
+                if (unstressed(n, "er") || unstressed(n, "el") || unstressed(n, "en")) return noun; // Fenster, Messer; not Spiel
+                if (n.endsWith("e")) return noun + "n";                  // Enden
+                return noun + "e";                                       // Jahre, Spiele
+        }
+    }
+
+    // Masculine n-declension by suffix: der Student, der Polizist, der Biologe
+    private static boolean isWeak(String noun, Gender gender) {
+        if (gender != Gender.MASCULINE) return false;
+        String n = noun.toLowerCase(Locale.GERMAN);
+        return n.endsWith("ent") || n.endsWith("ant") || n.endsWith("ist") || n.endsWith("loge")
+                || n.endsWith("soph") || n.endsWith("graf") || n.endsWith("graph");
+    }
+
+    private static String weakForm(String noun) {
+        String n = noun.toLowerCase(Locale.GERMAN);
+        return n.endsWith("e") || unstressed(n, "er") || n.endsWith("ar") ? noun + "n" : noun + "en";
+    }
+
+    // -er, -el, -en after a consonant: Lehrer, Regel, Wagen; but Tier, Spiel, Schwein
+    private static boolean unstressed(String n, String ending) {
+        int i = n.length() - ending.length();
+        return i > 0 && n.endsWith(ending) && "aeiouyäöü".indexOf(n.charAt(i - 1)) < 0;
+    }
+
+    // des Tisches, des Hauses; des Lehrers, des Autos, des Mädchens
+    private static String genitiveEnding(String noun) {
+        String n = noun.toLowerCase(Locale.GERMAN);
+        if (n.endsWith("s") || n.endsWith("ß") || n.endsWith("x") || n.endsWith("z")) {
+            return n.endsWith("nis") ? "ses" : "es";
+        }
+        if (endsWithVowel(n, "aeiouyäöü") || unstressed(n, "er") || unstressed(n, "el") || unstressed(n, "en")
+                || n.endsWith("chen") || n.endsWith("lein") || n.endsWith("ling")) {
+            return "s";
+        }
+        return syllables(n) == 1 ? "es" : "s";
+    }
+
+    private static boolean endsWithVowel(String n, String vowels) {
+        return !n.isEmpty() && vowels.indexOf(n.charAt(n.length() - 1)) >= 0;
+    }
+
+    private static int syllables(String n) {
+        int count = 0;
+        boolean inVowel = false;
+        for (int i = 0; i < n.length(); i++) {
+            boolean vowel = "aeiouyäöü".indexOf(n.charAt(i)) >= 0;
+            if (vowel && !inVowel) count++;
+            inVowel = vowel;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,167 @@
+package com.learnwithhaxx.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typo-tolerant lookup of word ids by their folded German key ("apfl" -> Apfel).
+ * Keys live in a BK-tree under Levenshtein distance, so a search only descends
+ * into children whose edge distance is within the bound of the query distance.
+ * Words are added and removed one at a time; a removed key keeps its node as a
+ * waypoint and simply stops matching.
+ */
+public final class FuzzyIndex {
+
+    public static final class Match {
+        public final int wordId;
+        public final int distance;
+
+        Match(int wordId, int distance) {
+            this.wordId = wordId;
+            this.distance = distance;
+        }
+    }
+
+    private static final class Node {
+        final String key;
+        final List<Integer> ids = new ArrayList<>(1);
+        Map<Integer, Node> children;
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    /** Allowed edits for a query: none for very short input, then 1, then 2. */
+    public static int maxDistanceFor(String foldedQuery) {
+        int n = foldedQuery.length();
+        if (n <= 3) return 0;
+        if (n <= 5) return 1;
+        return 2;
+    }
+
+    public synchronized void add(int wordId, String germanWord) {
+        String key = SearchKeys.foldBare(germanWord);
+        if (key.isEmpty()) return;
+        size++;
+        if (root == null) {
+            root = new Node(key);
+            root.ids.add(wordId);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int d = distance(key, node.key, Integer.MAX_VALUE);
+            if (d == 0) {
+                if (!node.ids.contains(wordId)) node.ids.add(wordId);
+                return;
+            }
+            if (node.children == null) node.children = new HashMap<>(4);
+            Node child = node.children.get(d);
+            if (child == null) {
+                child = new Node(key);
+                child.ids.add(wordId);
+                node.children.put(d, child);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public synchronized void remove(int wordId, String germanWord) {
+        String key = SearchKeys.foldBare(germanWord);
+        Node node = root;
+        while (node != null) {
+            int d = distance(key, node.key, Integer.MAX_VALUE);
+            if (d == 0) {
+                if (node.ids.remove(Integer.valueOf(wordId))) size--;
+                return;
+            }
+            node = node.children != null ? node.children.get(d) : null;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Words within the edit bound for this query, closest first. */
+    public synchronized List<Match> search(String query) {
+        String key = SearchKeys.foldBare(query);
+        if (key.isEmpty() || root == null) return Collections.emptyList();
+        int max = maxDistanceFor(key);
+
+        // Distance buckets keep the result ranked without a sort
+        Map<Integer, List<Match>> byDistance = new LinkedHashMap<>();
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            // Bounded by max + 1 is enough to decide the triangle inequality below
+            int d = distance(key, node.key, max + 1 + maxChildEdge(node));
+            if (d <= max) {
+                for (int id : node.ids) {
+                    List<Match> bucket = byDistance.get(d);
+                    if (bucket == null) {
+                        bucket = new ArrayList<>();
+                        byDistance.put(d, bucket);
+                    }
+                    bucket.add(new Match(id, d));
+                }
+            }
+            if (node.children == null) continue;
+            for (Map.Entry<Integer, Node> e : node.children.entrySet()) {
+                int edge = e.getKey();
+                if (edge >= d - max && edge <= d + max) stack.add(e.getValue());
+            }
+        }
+
+        List<Match> result = new ArrayList<>();
+        for (int d = 0; d <= max; d++) {
+            List<Match> bucket = byDistance.get(d);
+            if (bucket != null) result.addAll(bucket);
+        }
+        return result;
+    }
+
+    private static int maxChildEdge(Node node) {
+        if (node.children == null) return 0;
+        int max = 0;
+        for (int edge : node.children.keySet()) max = Math.max(max, edge);
+        return max;
+    }
+
+    /**
+     * Levenshtein distance, giving up once every entry in a row exceeds limit
+     * (the result is then some value above limit).
+     */
+    static int distance(String a, String b, int limit) {
+        int n = a.length(), m = b.length();
+        if (Math.abs(n - m) > limit) return limit + 1;
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = j;
+        for (int i = 1; i <= n; i++) {
+            cur[0] = i;
+            int rowMin = cur[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                if (cur[j] < rowMin) rowMin = cur[j];
+            }
+            if (rowMin > limit) return limit + 1;
+            int[] t = prev;
+            prev = cur;
+            cur = t;
+        }
+        return prev[m];
+    }
+}
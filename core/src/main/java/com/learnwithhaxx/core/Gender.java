@@ -0,0 +1,31 @@
+package com.learnwithhaxx.core;
+
+/** Grammatical gender of a noun, named by its definite article. */
+public enum Gender {
+    MASCULINE("der"),
+    FEMININE("die"),
+    NEUTER("das");
+
+    public final String article;
+
+    Gender(String article) {
+        this.article = article;
+    }
+
+    /** der/die/das in any case, or null. */
+    public static Gender fromArticle(String article) {
+        if (article == null) return null;
+        for (Gender g : values()) {
+            if (g.article.equalsIgnoreCase(article)) return g;
+        }
+        return null;
+    }
+
+    /** Gender from the article a word starts with ("die Lampe"), or null. */
+    public static Gender ofWord(String germanWord) {
+        if (germanWord == null) return null;
+        String word = germanWord.trim();
+        int space = word.indexOf(' ');
+        return space == 3 ? fromArticle(word.substring(0, 3)) : null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.learnwithhaxx.core;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Surface forms a word can be searched by: the lemma, the noun without its
+ * article, every declined noun form and every conjugated form. "läuft", "lief"
+ * and "gelaufen" all lead back to laufen, "Äpfeln" to der Apfel.
+ */
+public final class InflectedForms {
+
+    private static final String[] ARTICLES = {"der ", "die ", "das ", "sich "};
+
+    private InflectedForms() {}
+
+    /** Key under which a form or a search query is stored and looked up. */
+    public static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.GERMAN);
+    }
+
+    /**
+     * All forms of a word. byTense holds stored conjugations indexed by Tense
+     * ordinal (null for non-verbs or missing tenses), so hand edits are indexed too.
+     */
+    public static Set<String> of(String germanWord, Conjugator.Conjugation[] byTense) {
+        return of(germanWord, byTense, null);
+    }
+
+    /** As above, plus the parts of a compound so "schlüssel" finds Haustürschlüssel. */
+    public static Set<String> of(String germanWord, Conjugator.Conjugation[] byTense, CompoundSplitter splitter) {
+        Set<String> forms = new LinkedHashSet<>();
+        if (splitter != null && germanWord != null) forms.addAll(splitter.split(germanWord));
+        addLemma(forms, germanWord);
+        addDeclension(forms, germanWord);
+        if (byTense != null) {
+            Conjugator.Tense[] tenses = Conjugator.Tense.values();
+            for (int t = 0; t < byTense.length && t < tenses.length; t++) {
+                if (byTense[t] != null) addConjugation(forms, tenses[t], byTense[t]);
+            }
+        }
+        return forms;
+    }
+
+    public static void addLemma(Set<String> out, String germanWord) {
+        if (germanWord == null) return;
+        String lemma = normalize(germanWord);
+        if (lemma.isEmpty()) return;
+        out.add(lemma);
+        // der Apfel -> apfel, sich freuen -> freuen
+        for (String article : ARTICLES) {
+            if (lemma.startsWith(article)) {
+                out.add(lemma.substring(article.length()).trim());
+                break;
+            }
+        }
+    }
+
+    public static void addDeclension(Set<String> out, String germanWord) {
+        // Uncached: indexing touches each word once
+        Declension.Paradigm p = Declension.decline(germanWord);
+        if (p == null) return;
+        for (Declension.Case c : Declension.Case.values()) {
+            out.add(normalize(p.singular(c)));
+            if (p.hasPlural()) out.add(normalize(p.plural(c)));
+        }
+    }
+
+    public static void addConjugation(Set<String> out, Conjugator.Tense tense, Conjugator.Conjugation c) {
+        for (int p = 0; p < 6; p++) {
+            String form = c.get(p);
+            if (form == null || form.isEmpty()) continue;
+            String normalized = normalize(form);
+            int firstSpace = normalized.indexOf(' ');
+            if (firstSpace < 0) {
+                out.add(normalized);
+                continue;
+            }
+
+            String first = normalized.substring(0, firstSpace);
+            if (isCompound(tense, first)) {
+                // habe ... gelaufen, werde ... laufen: only the non-finite part identifies the verb
+                out.add(normalized.substring(normalized.lastIndexOf(' ') + 1));
+            } else {
+                out.add(normalized); // "stehe auf"
+                out.add(first);      // stehe, wasche, gib
+            }
+        }
+    }
+
+    private static boolean isCompound(Conjugator.Tense tense, String firstToken) {
+        return tense == Conjugator.Tense.PERFEKT || tense == Conjugator.Tense.FUTUR_I
+                || (tense == Conjugator.Tense.KONJUNKTIV_II && firstToken.startsWith("würd"));
+    }
+}
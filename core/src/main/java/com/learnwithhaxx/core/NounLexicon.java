@@ -0,0 +1,88 @@
+package com.learnwithhaxx.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Nouns whose plural or declension the suffix rules in {@link Declension} get
+ * wrong, read from the bundled {@code nouns.txt} resource on first lookup.
+ */
+public final class NounLexicon {
+
+    private static final String RESOURCE = "nouns.txt";
+
+    public static final class Entry {
+        public final String noun;
+        public final Gender gender;
+        public final String plural;   // null if the noun has no plural
+        public final String weak;     // n-declension oblique form ("" if derived), null if not weak
+        public final String genitive; // genitive singular override, null if derived
+
+        Entry(String noun, Gender gender, String plural, String weak, String genitive) {
+            this.noun = noun;
+            this.gender = gender;
+            this.plural = plural;
+            this.weak = weak;
+            this.genitive = genitive;
+        }
+    }
+
+    // Lazy holder: the resource is only read the first time a noun is looked up
+    private static final class Holder {
+        static final Map<String, Entry> ENTRIES = load();
+    }
+
+    private NounLexicon() {}
+
+    /** Looks up a bare noun, ignoring case. */
+    public static Entry lookup(String noun) {
+        return Holder.ENTRIES.get(noun.toLowerCase(Locale.GERMAN));
+    }
+
+    public static Collection<Entry> entries() {
+        return Holder.ENTRIES.values();
+    }
+
+    private static Map<String, Entry> load() {
+        InputStream in = NounLexicon.class.getResourceAsStream(RESOURCE);
+        if (in == null) return Collections.emptyMap();
+
+        Map<String, Entry> map = new HashMap<>(256);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry = parseLine(line.trim());
+                if (entry != null) map.put(entry.noun.toLowerCase(Locale.GERMAN), entry);
+            }
+        } catch (IOException e) {
+            // Fall back to whatever was read; unknown nouns follow the suffix rules
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    static Entry parseLine(String line) {
+        if (line.isEmpty() || line.startsWith("#")) return null;
+
+        String[] parts = line.split("\\s+");
+        if (parts.length < 3) return null;
+        Gender gender = Gender.fromArticle(parts[1]);
+        if (gender == null) return null;
+
+        String weak = null;
+        String genitive = null;
+        for (int i = 3; i < parts.length; i++) {
+            if (parts[i].equals("weak")) weak = "";
+            else if (parts[i].startsWith("weak=")) weak = parts[i].substring(5);
+            else if (parts[i].startsWith("gen=")) genitive = parts[i].substring(4);
+        }
+        return new Entry(parts[0], gender, parts[2].equals("-") ? null : parts[2], weak, genitive);
+    }
+}
@@ -0,0 +1,138 @@
+package com.learnwithhaxx.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only German to English dictionary in the binary layout written by
+ * {@link OfflineDictionaryWriter}. The file is mapped, not read: a lookup binary-searches
+ * the offset table and compares key bytes in place, and only the entries it returns are
+ * decoded onto the heap.
+ *
+ * <pre>
+ * int magic, int count
+ * int[count] record offsets, relative to the first record, sorted by key
+ * records:   u16 length + UTF-8 bytes, three times: key, headword, meaning
+ * </pre>
+ * Keys are {@link SearchKeys#foldBare} of the headword.
+ */
+public class OfflineDictionary {
+
+    static final int MAGIC = 0x44454E31; // "DEN1"
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public static class Entry {
+        public final String headword;
+        public final String meaning;
+
+        Entry(String headword, String meaning) {
+            this.headword = headword;
+            this.meaning = meaning;
+        }
+
+        @Override
+        public String toString() {
+            return headword + " – " + meaning;
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int recordsStart;
+
+    private OfflineDictionary(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < 8 || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a dictionary file");
+        }
+        count = buffer.getInt(4);
+        recordsStart = 8 + 4 * count;
+    }
+
+    /** Maps {@code size} bytes of the channel from {@code position}; the mapping outlives the channel. */
+    public static OfflineDictionary map(FileChannel channel, long position, long size) throws IOException {
+        return new OfflineDictionary(channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+    }
+
+    /** Over a buffer already in memory, e.g. for tools and benchmarks. */
+    public static OfflineDictionary wrap(ByteBuffer buffer) throws IOException {
+        return new OfflineDictionary(buffer);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** Entries whose headword is exactly the given word, article and case aside. */
+    public List<Entry> lookup(String germanWord) {
+        return find(SearchKeys.foldBare(germanWord), false, Integer.MAX_VALUE);
+    }
+
+    /** Up to {@code limit} entries whose headword starts with the prefix, in key order. */
+    public List<Entry> complete(String prefix, int limit) {
+        return find(SearchKeys.foldBare(prefix), true, limit);
+    }
+
+    private List<Entry> find(String key, boolean prefix, int limit) {
+        List<Entry> result = new ArrayList<>();
+        if (key.isEmpty() || limit <= 0) return result;
+        byte[] k = key.getBytes(UTF_8);
+
+        // Lower bound: first record whose key is >= k
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareKey(record(mid), k) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+
+        for (int i = lo; i < count && result.size() < limit; i++) {
+            int at = record(i);
+            int keyLength = length(at);
+            if (prefix ? !startsWith(at, k) : (keyLength != k.length || !startsWith(at, k))) break;
+            int head = at + 2 + keyLength;
+            int meaning = head + 2 + length(head);
+            result.add(new Entry(string(head), string(meaning)));
+        }
+        return result;
+    }
+
+    private int record(int index) {
+        return recordsStart + buffer.getInt(8 + 4 * index);
+    }
+
+    private int length(int at) {
+        return buffer.getShort(at) & 0xFFFF;
+    }
+
+    // Unsigned byte order, the same as the writer sorts by
+    private int compareKey(int at, byte[] k) {
+        int length = length(at);
+        int n = Math.min(length, k.length);
+        for (int i = 0; i < n; i++) {
+            int a = buffer.get(at + 2 + i) & 0xFF, b = k[i] & 0xFF;
+            if (a != b) return a - b;
+        }
+        return length - k.length;
+    }
+
+    private boolean startsWith(int at, byte[] k) {
+        if (length(at) < k.length) return false;
+        for (int i = 0; i < k.length; i++) {
+            if (buffer.get(at + 2 + i) != k[i]) return false;
+        }
+        return true;
+    }
+
+    private String string(int at) {
+        byte[] bytes = new byte[length(at)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(at + 2 + i);
+        }
+        return new String(bytes, UTF_8);
+    }
+}
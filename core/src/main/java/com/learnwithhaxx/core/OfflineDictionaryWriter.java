@@ -0,0 +1,112 @@
+package com.learnwithhaxx.core;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds the file {@link OfflineDictionary} maps. The bundled asset is regenerated from
+ * its tab-separated source with
+ * <pre>java com.learnwithhaxx.core.OfflineDictionaryWriter de-en.tsv dictionary.dict</pre>
+ */
+public class OfflineDictionaryWriter {
+
+    private static class Record implements Comparable<Record> {
+        final byte[] key, headword, meaning;
+
+        Record(String headword, String meaning) {
+            this.key = SearchKeys.foldBare(headword).getBytes(OfflineDictionary.UTF_8);
+            this.headword = headword.getBytes(OfflineDictionary.UTF_8);
+            this.meaning = meaning.getBytes(OfflineDictionary.UTF_8);
+        }
+
+        @Override
+        public int compareTo(Record o) {
+            int c = compare(key, o.key);
+            return c != 0 ? c : compare(headword, o.headword);
+        }
+
+        private static int compare(byte[] a, byte[] b) {
+            int n = Math.min(a.length, b.length);
+            for (int i = 0; i < n; i++) {
+                int x = a[i] & 0xFF, y = b[i] & 0xFF;
+                if (x != y) return x - y;
+            }
+            return a.length - b.length;
+        }
+    }
+
+    private final List<Record> records = new ArrayList<>();
+
+    public OfflineDictionaryWriter add(String headword, String meaning) {
+        headword = headword.trim();
+        if (!SearchKeys.foldBare(headword).isEmpty()) records.add(new Record(headword, meaning.trim()));
+        return this;
+    }
+
+    /** One "headword TAB meaning" per line; blank lines and # comments are skipped. */
+    public OfflineDictionaryWriter addTsv(Reader reader) throws IOException {
+        BufferedReader in = new BufferedReader(reader);
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            int tab = line.indexOf('\t');
+            if (tab > 0) add(line.substring(0, tab), line.substring(tab + 1));
+        }
+        return this;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        Collections.sort(records);
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(OfflineDictionary.MAGIC);
+        data.writeInt(records.size());
+        int offset = 0;
+        for (Record r : records) {
+            data.writeInt(offset);
+            offset += 6 + r.key.length + r.headword.length + r.meaning.length;
+        }
+        for (Record r : records) {
+            writeString(data, r.key);
+            writeString(data, r.headword);
+            writeString(data, r.meaning);
+        }
+        data.flush();
+    }
+
+    public byte[] toByteArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out);
+        return out.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream data, byte[] bytes) throws IOException {
+        if (bytes.length > 0xFFFF) throw new IOException("Entry too long");
+        data.writeShort(bytes.length);
+        data.write(bytes);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: OfflineDictionaryWriter <source.tsv> <output.dict>");
+            System.exit(1);
+        }
+        OfflineDictionaryWriter writer = new OfflineDictionaryWriter();
+        try (Reader in = new InputStreamReader(new FileInputStream(args[0]), OfflineDictionary.UTF_8)) {
+            writer.addTsv(in);
+        }
+        try (OutputStream out = new FileOutputStream(args[1])) {
+            writer.write(out);
+        }
+        System.out.println(writer.records.size() + " entries");
+    }
+}
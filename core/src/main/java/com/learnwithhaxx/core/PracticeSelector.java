@@ -0,0 +1,63 @@
+package com.learnwithhaxx.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Picks the words for a practice session: new words first, then a review mix of
+ * 80% Hard and 20% Easy, topped up with any reviewed words if a level runs short.
+ */
+public final class PracticeSelector {
+
+    private static final double HARD_SHARE = 0.8;
+
+    private PracticeSelector() {}
+
+    public static List<Word> select(PracticeSource source, int limit) {
+        // 1. First Priority: Get NEW words (level 0)
+        List<Word> newWords = source.randomWordsAtLevel(0, limit);
+        if (!newWords.isEmpty()) {
+            return newWords; // Only show new words until they are all gone
+        }
+
+        // 2. Second Priority (Review Phase): 80% Hard (1) and 20% Easy (2)
+        int hardLimit = (int) (limit * HARD_SHARE);
+        int easyLimit = limit - hardLimit;
+
+        List<Word> practiceWords = new ArrayList<>(limit);
+        practiceWords.addAll(source.randomWordsAtLevel(1, hardLimit));
+        practiceWords.addAll(source.randomWordsAtLevel(2, easyLimit));
+
+        // If limits didn't fill up (e.g. not enough Easy words), fill with any categorized words
+        if (practiceWords.size() < limit) {
+            Set<Integer> chosen = new HashSet<>();
+            for (Word w : practiceWords) chosen.add(w.getId());
+
+            for (Word w : source.randomReviewedWords(limit - practiceWords.size())) {
+                if (chosen.add(w.getId())) practiceWords.add(w);
+            }
+        }
+
+        return practiceWords;
+    }
+
+    /**
+     * Up to {@code n} distinct ids drawn at random, by a partial shuffle of {@code ids}
+     * (which is reordered). Costs O(n) swaps however large the deck is.
+     */
+    public static int[] sampleIds(int[] ids, int n, Random random) {
+        int count = Math.min(n, ids.length);
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(ids.length - i);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        int[] picked = new int[count];
+        System.arraycopy(ids, 0, picked, 0, count);
+        return picked;
+    }
+}
@@ -0,0 +1,16 @@
+package com.learnwithhaxx.core;
+
+import java.util.List;
+
+/**
+ * Random access to the word deck by learning level, as needed by {@link PracticeSelector}.
+ * The app backs this with SQLite; benchmarks and tests can use an in-memory deck.
+ */
+public interface PracticeSource {
+
+    /** Up to limit random words at exactly this level (0 = New, 1 = Hard, 2 = Easy). */
+    List<Word> randomWordsAtLevel(int level, int limit);
+
+    /** Up to limit random words that have been rated at least once (level > 0). */
+    List<Word> randomReviewedWords(int limit);
+}
@@ -0,0 +1,197 @@
+package com.learnwithhaxx.core;
+
+/**
+ * Splits a verb into separable prefix, inseparable prefix and base verb using a
+ * prefix trie. The trie is walked once over the input, recording every prefix
+ * boundary; boundaries are then tried longest first and only accepted when the
+ * remainder is a known base verb, so "antworten" and "bedanken" stay whole.
+ */
+public final class PrefixAnalyzer {
+
+    public static final class Analysis {
+        public final String separable;   // "" if none
+        public final String inseparable; // "" if none
+        public final String base;
+
+        Analysis(String separable, String inseparable, String base) {
+            this.separable = separable;
+            this.inseparable = inseparable;
+            this.base = base;
+        }
+    }
+
+    private static final String[] SEPARABLE_PREFIXES = {
+            "ab", "an", "auf", "aus", "bei", "da", "dar", "durch", "ein", "fern", "fest", "her", "hin",
+            "los", "mit", "nach", "um", "vor", "weg", "wieder", "zu", "über", "unter"
+    };
+
+    // Multi-part prefixes that never start a simple verb: split even when the base is unknown
+    private static final String[] SEPARABLE_COMPOUNDS = {
+            "bereit", "dabei", "dafür", "daran", "davon", "dazu", "empor", "entgegen", "fort", "frei",
+            "herab", "heran", "herauf", "heraus", "herbei", "herein", "herüber", "herum", "herunter",
+            "hinab", "hinauf", "hinaus", "hinein", "hinüber", "hinunter", "hinweg", "hoch", "kennen",
+            "nieder", "statt", "teil", "voran", "voraus", "vorbei", "vorher", "vorüber", "weiter",
+            "zurecht", "zurück", "zusammen"
+    };
+
+    private static final String[] INSEPARABLE_PREFIXES = {
+            "be", "emp", "ent", "er", "ge", "hinter", "miss", "ver", "zer"
+    };
+
+    private static final int NONE = 0;
+    private static final int SEPARABLE = 1;
+    private static final int COMPOUND = 2;
+    private static final int INSEPARABLE = 3;
+
+    private static final int MIN_BASE_LENGTH = 3;
+    private static final int MAX_BOUNDARIES = 8;
+
+    private static final class Node {
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        int kind = NONE;
+
+        Node child(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) return children[i];
+            }
+            return null;
+        }
+
+        Node addChild(char c) {
+            Node existing = child(c);
+            if (existing != null) return existing;
+
+            int n = keys.length;
+            char[] newKeys = new char[n + 1];
+            Node[] newChildren = new Node[n + 1];
+            System.arraycopy(keys, 0, newKeys, 0, n);
+            System.arraycopy(children, 0, newChildren, 0, n);
+            newKeys[n] = c;
+            newChildren[n] = new Node();
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[n];
+        }
+    }
+
+    private static final Node ROOT = buildTrie();
+
+    private PrefixAnalyzer() {}
+
+    private static Node buildTrie() {
+        Node root = new Node();
+        insert(root, SEPARABLE_PREFIXES, SEPARABLE);
+        insert(root, SEPARABLE_COMPOUNDS, COMPOUND);
+        insert(root, INSEPARABLE_PREFIXES, INSEPARABLE);
+        return root;
+    }
+
+    private static void insert(Node root, String[] prefixes, int kind) {
+        for (String prefix : prefixes) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.addChild(prefix.charAt(i));
+            }
+            node.kind = kind;
+        }
+    }
+
+    public static Analysis analyze(String verb) {
+        // Verbs listed as a whole are never split ("beginnen", "antworten")
+        VerbLexicon.BaseVerb listed = VerbLexicon.lookupBase(verb);
+        if (listed != null && !listed.inseparable.isEmpty()) {
+            return new Analysis("", listed.inseparable, verb.substring(listed.inseparable.length()));
+        }
+        if (listed != null && !listed.separable.isEmpty()) {
+            return new Analysis(listed.separable, "", verb.substring(listed.separable.length()));
+        }
+        if (VerbLexicon.isKnownVerb(verb)) {
+            return new Analysis("", "", verb);
+        }
+
+        // Single pass: collect every prefix boundary along the trie path
+        int[] ends = new int[MAX_BOUNDARIES];
+        int[] kinds = new int[MAX_BOUNDARIES];
+        int found = 0;
+        Node node = ROOT;
+        for (int i = 0; i < verb.length() && found < MAX_BOUNDARIES; i++) {
+            node = node.child(verb.charAt(i));
+            if (node == null) break;
+            if (node.kind != NONE) {
+                ends[found] = i + 1;
+                kinds[found] = node.kind;
+                found++;
+            }
+        }
+
+        // Longest match first
+        for (int k = found - 1; k >= 0; k--) {
+            int end = ends[k];
+            if (verb.length() - end < MIN_BASE_LENGTH) continue;
+
+            String prefix = verb.substring(0, end);
+            String rest = verb.substring(end);
+
+            if (kinds[k] == INSEPARABLE) {
+                if (VerbLexicon.isKnownVerb(rest)) return new Analysis("", prefix, rest);
+                continue;
+            }
+
+            Analysis inner = analyzeInseparable(rest);
+            if (inner != null) return new Analysis(prefix, inner.inseparable, inner.base);
+            if (VerbLexicon.isKnownVerb(rest) || (kinds[k] == COMPOUND && rest.endsWith("n"))) {
+                return new Analysis(prefix, "", rest);
+            }
+        }
+
+        return new Analysis("", "", verb);
+    }
+
+    // Inseparable prefix directly after a separable one ("an|er|kennen", "vor|be|reiten")
+    private static Analysis analyzeInseparable(String rest) {
+        VerbLexicon.BaseVerb listed = VerbLexicon.lookupBase(rest);
+        if (listed != null && !listed.inseparable.isEmpty()) {
+            return new Analysis("", listed.inseparable, rest.substring(listed.inseparable.length()));
+        }
+        if (VerbLexicon.isKnownVerb(rest)) return null;
+
+        Node node = ROOT;
+        for (int i = 0; i < rest.length(); i++) {
+            node = node.child(rest.charAt(i));
+            if (node == null) return null;
+            if (node.kind == INSEPARABLE && rest.length() - i - 1 >= MIN_BASE_LENGTH) {
+                String base = rest.substring(i + 1);
+                if (VerbLexicon.isKnownVerb(base)) return new Analysis("", rest.substring(0, i + 1), base);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * True for unsplit verbs that still begin with an inseparable prefix, such as
+     * "erinnern" or "bereiten". These take no ge- in the Partizip II. Two-syllable
+     * verbs like "beten" or "erben" only look prefixed and are excluded.
+     */
+    public static boolean hasInseparableOnset(String verb) {
+        Node node = ROOT;
+        boolean prefixed = false;
+        for (int i = 0; i < verb.length() && !prefixed; i++) {
+            node = node.child(verb.charAt(i));
+            if (node == null) break;
+            prefixed = node.kind == INSEPARABLE;
+        }
+        return prefixed && countSyllables(verb) >= 3;
+    }
+
+    private static int countSyllables(String word) {
+        int count = 0;
+        boolean inVowel = false;
+        for (int i = 0; i < word.length(); i++) {
+            boolean vowel = "aeiouäöüy".indexOf(word.charAt(i)) >= 0;
+            if (vowel && !inVowel) count++;
+            inVowel = vowel;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,60 @@
+package com.learnwithhaxx.core;
+
+import java.util.Locale;
+
+/**
+ * Keys for typo-tolerant search: lower case, umlauts folded to their base vowel
+ * and ß to ss, so "schon" meets schön and "Strasse" meets Straße.
+ */
+public final class SearchKeys {
+
+    private static final String[] ARTICLES = {"der ", "die ", "das ", "sich "};
+
+    private SearchKeys() {}
+
+    public static String fold(String text) {
+        if (text == null) return "";
+        String lower = text.trim().toLowerCase(Locale.GERMAN);
+        StringBuilder sb = null;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            String replacement;
+            switch (c) {
+                case 'ä': replacement = "a"; break;
+                case 'ö': replacement = "o"; break;
+                case 'ü': replacement = "u"; break;
+                case 'ß': replacement = "ss"; break;
+                default: replacement = null; break;
+            }
+            if (replacement == null) {
+                if (sb != null) sb.append(c);
+                continue;
+            }
+            if (sb == null) sb = new StringBuilder(lower.length() + 1).append(lower, 0, i);
+            sb.append(replacement);
+        }
+        return sb == null ? lower : sb.toString();
+    }
+
+    /** German word and meaning folded into one key, so one contains() covers both. */
+    public static String searchKey(String germanWord, String meaning) {
+        // A newline never occurs in a query, so a match can't straddle the two halves
+        return fold(germanWord) + '\n' + fold(meaning);
+    }
+
+    /** The word without its der/die/das, case kept: "der Apfel" -> "Apfel". */
+    public static String stripArticle(String germanWord) {
+        if (germanWord == null) return "";
+        String word = germanWord.trim();
+        return Gender.ofWord(word) != null ? word.substring(4).trim() : word;
+    }
+
+    /** Folded key without a leading article or "sich": "der Apfel" -> "apfel". */
+    public static String foldBare(String germanWord) {
+        String key = fold(germanWord);
+        for (String article : ARTICLES) {
+            if (key.startsWith(article)) return key.substring(article.length()).trim();
+        }
+        return key;
+    }
+}
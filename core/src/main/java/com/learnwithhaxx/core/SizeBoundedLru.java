@@ -0,0 +1,62 @@
+package com.learnwithhaxx.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sizes of cached items in least-recently-used order, trimmed to a byte budget. It only does
+ * the bookkeeping; the caller deletes whatever {@link #put} evicts.
+ */
+public final class SizeBoundedLru<K> {
+
+    private final LinkedHashMap<K, Long> sizes = new LinkedHashMap<>(64, 0.75f, true);
+    private final long maxBytes;
+    private long totalBytes;
+
+    public SizeBoundedLru(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /** Adds or replaces an item as the most recent; returns the keys evicted to make room. */
+    public List<K> put(K key, long size) {
+        Long old = sizes.put(key, size);
+        if (old != null) totalBytes -= old;
+        totalBytes += size;
+
+        List<K> evicted = new ArrayList<>();
+        Iterator<Map.Entry<K, Long>> it = sizes.entrySet().iterator();
+        // The newest item stays even if it alone is over budget
+        while (totalBytes > maxBytes && sizes.size() > 1 && it.hasNext()) {
+            Map.Entry<K, Long> eldest = it.next();
+            totalBytes -= eldest.getValue();
+            evicted.add(eldest.getKey());
+            it.remove();
+        }
+        return evicted;
+    }
+
+    /** Marks the item as just used; false if it isn't cached. */
+    public boolean touch(K key) {
+        return sizes.get(key) != null;
+    }
+
+    public boolean contains(K key) {
+        return sizes.containsKey(key);
+    }
+
+    public void remove(K key) {
+        Long size = sizes.remove(key);
+        if (size != null) totalBytes -= size;
+    }
+
+    public int size() {
+        return sizes.size();
+    }
+
+    public long totalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,41 @@
+package com.learnwithhaxx.core;
+
+/**
+ * Streak rules, independent of storage. Dates are "yyyy-MM-dd" strings as stored
+ * in the database.
+ */
+public final class StreakCalculator {
+
+    /** Words to add in a day for it to count towards the streak. */
+    public static final int DAILY_GOAL = 5;
+
+    private StreakCalculator() {}
+
+    /** A streak survives only if the goal was last reached today or yesterday. */
+    public static boolean isBroken(String lastActiveDate, String today, String yesterday) {
+        return lastActiveDate != null && !lastActiveDate.equals(today) && !lastActiveDate.equals(yesterday);
+    }
+
+    public static boolean isGoalReached(int wordsToday) {
+        return wordsToday >= DAILY_GOAL;
+    }
+
+    /**
+     * Streak after reaching today's goal: unchanged if already counted today,
+     * continued from yesterday, or a new streak of 1.
+     */
+    public static int streakAfterGoal(int currentStreak, String lastActiveDate, String today, String yesterday) {
+        if (today.equals(lastActiveDate)) return currentStreak;
+        if (yesterday.equals(lastActiveDate)) return currentStreak + 1;
+        return 1;
+    }
+
+    /** Contribution level 0-4 for a day's word count, as drawn in the calendar. */
+    public static int levelFromCount(int count) {
+        if (count == 0) return 0;
+        if (count < 3) return 1;
+        if (count < 6) return 2;
+        if (count < 10) return 3;
+        return 4;
+    }
+}
@@ -1,4 +1,4 @@
-package com.learnwithhaxx.app;
+package com.learnwithhaxx.core;
 
 public class User {
     private int id;
@@ -0,0 +1,169 @@
+package com.learnwithhaxx.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Principal parts of the irregular, strong and mixed verbs, read from the bundled
+ * {@code irregular_verbs.txt} resource, plus the regular base verbs from
+ * {@code base_verbs.txt} used to validate prefix splits. Each table is parsed once,
+ * on first lookup, into a hash map keyed by infinitive.
+ */
+public final class VerbLexicon {
+
+    private static final String RESOURCE = "irregular_verbs.txt";
+    private static final String BASE_RESOURCE = "base_verbs.txt";
+
+    public static final class Entry {
+        public final String infinitive;
+        public final String presentStem;   // du/er stem after vowel change, null if unchanged
+        public final String praeteritum;   // ich/er form, e.g. "fuhr", "dachte"
+        public final String partizip;
+        public final String auxiliary;     // "h", "s", or both in order of preference
+        public final String[] present;     // full present paradigm, null if derived from the stem
+        public final String konjunktiv;    // Konjunktiv II override, null if derived from the Präteritum
+        public final String[] imperative;  // du, ihr, wir/Sie override; empty if none exists, null if derived
+
+        Entry(String infinitive, String presentStem, String praeteritum, String partizip,
+              String auxiliary, String[] present, String konjunktiv, String[] imperative) {
+            this.infinitive = infinitive;
+            this.presentStem = presentStem;
+            this.praeteritum = praeteritum;
+            this.partizip = partizip;
+            this.auxiliary = auxiliary;
+            this.present = present;
+            this.konjunktiv = konjunktiv;
+            this.imperative = imperative;
+        }
+    }
+
+    public static final class BaseVerb {
+        public final String separable;   // "" unless listed as "auf+stehen"
+        public final String inseparable; // "" unless listed as "über|setzen"
+        public final String auxiliary;   // "s" when listed with sein, otherwise null
+
+        BaseVerb(String separable, String inseparable, String auxiliary) {
+            this.separable = separable;
+            this.inseparable = inseparable;
+            this.auxiliary = auxiliary;
+        }
+    }
+
+    // Lazy holder: the resource is only read the first time a verb is looked up
+    private static final class Holder {
+        static final Map<String, Entry> ENTRIES = load();
+    }
+
+    private static final class BaseHolder {
+        static final Map<String, BaseVerb> VERBS = loadBaseVerbs();
+    }
+
+    private VerbLexicon() {}
+
+    public static Entry lookup(String infinitive) {
+        return Holder.ENTRIES.get(infinitive);
+    }
+
+    public static BaseVerb lookupBase(String infinitive) {
+        return BaseHolder.VERBS.get(infinitive);
+    }
+
+    public static boolean isKnownVerb(String infinitive) {
+        return Holder.ENTRIES.containsKey(infinitive) || BaseHolder.VERBS.containsKey(infinitive);
+    }
+
+    public static Map<String, Entry> entries() {
+        return Holder.ENTRIES;
+    }
+
+    private static Map<String, Entry> load() {
+        InputStream in = VerbLexicon.class.getResourceAsStream(RESOURCE);
+        if (in == null) return Collections.emptyMap();
+
+        // ~180 entries; sized so the map never rehashes while loading
+        Map<String, Entry> map = new HashMap<>(256);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry = parseLine(line.trim());
+                if (entry != null) map.put(entry.infinitive, entry);
+            }
+        } catch (IOException e) {
+            // Fall back to whatever was read; unknown verbs conjugate as regular
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static Map<String, BaseVerb> loadBaseVerbs() {
+        InputStream in = VerbLexicon.class.getResourceAsStream(BASE_RESOURCE);
+        if (in == null) return Collections.emptyMap();
+
+        Map<String, BaseVerb> map = new HashMap<>(512);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                String[] parts = line.split("\\s+");
+                String word = parts[0];
+                String auxiliary = parts.length > 1 ? parts[1] : null;
+
+                int bar = word.indexOf('|');
+                int plus = word.indexOf('+');
+                if (bar > 0) {
+                    map.put(word.substring(0, bar) + word.substring(bar + 1),
+                            new BaseVerb("", word.substring(0, bar), auxiliary));
+                } else if (plus > 0) {
+                    map.put(word.substring(0, plus) + word.substring(plus + 1),
+                            new BaseVerb(word.substring(0, plus), "", auxiliary));
+                } else {
+                    map.put(word, new BaseVerb("", "", auxiliary));
+                }
+            }
+        } catch (IOException e) {
+            // Unknown verbs are simply left unsplit
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    static Entry parseLine(String line) {
+        if (line.isEmpty() || line.startsWith("#")) return null;
+
+        String[] parts = line.split("\\s+");
+        if (parts.length < 5) return null;
+
+        String[] present = null;
+        String konjunktiv = null;
+        String[] imperative = null;
+        for (int i = 5; i < parts.length; i++) {
+            if (parts[i].startsWith("pres=")) {
+                String[] forms = parts[i].substring(5).split(",");
+                if (forms.length == 6) present = forms;
+            } else if (parts[i].startsWith("k2=")) {
+                konjunktiv = parts[i].substring(3);
+            } else if (parts[i].startsWith("imp=")) {
+                String value = parts[i].substring(4);
+                String[] forms = value.split(",");
+                if (value.equals("-")) imperative = new String[0];
+                else if (forms.length == 3) imperative = forms;
+            }
+        }
+
+        return new Entry(
+                parts[0],
+                parts[1].equals("-") ? null : parts[1],
+                parts[2],
+                parts[3],
+                parts[4],
+                present,
+                konjunktiv,
+                imperative);
+    }
+}
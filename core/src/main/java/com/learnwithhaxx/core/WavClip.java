@@ -0,0 +1,69 @@
+package com.learnwithhaxx.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Where the samples are in a PCM WAV file, as written by TextToSpeech.synthesizeToFile.
+ * Only the header chunks are read; the samples are left in the caller's array.
+ */
+public final class WavClip {
+
+    private static final int RIFF = 0x46464952; // "RIFF", little-endian
+    private static final int WAVE = 0x45564157; // "WAVE"
+    private static final int FMT = 0x20746D66;  // "fmt "
+    private static final int DATA = 0x61746164; // "data"
+    private static final int FORMAT_PCM = 1;
+
+    public final int sampleRate;
+    public final int channels;
+    public final int bitsPerSample;
+    public final int dataOffset;
+    public final int dataLength;
+
+    private WavClip(int sampleRate, int channels, int bitsPerSample, int dataOffset, int dataLength) {
+        this.sampleRate = sampleRate;
+        this.channels = channels;
+        this.bitsPerSample = bitsPerSample;
+        this.dataOffset = dataOffset;
+        this.dataLength = dataLength;
+    }
+
+    /** The clip in the first {@code length} bytes, or null if it isn't 8/16-bit PCM WAV. */
+    public static WavClip parse(byte[] bytes, int length) {
+        ByteBuffer b = ByteBuffer.wrap(bytes, 0, length).order(ByteOrder.LITTLE_ENDIAN);
+        if (length < 12 || b.getInt(0) != RIFF || b.getInt(8) != WAVE) return null;
+
+        int sampleRate = 0, channels = 0, bits = 0;
+        int pos = 12;
+        while (pos + 8 <= length) {
+            int id = b.getInt(pos);
+            int size = b.getInt(pos + 4);
+            int body = pos + 8;
+            if (id == FMT && size >= 16 && body + 16 <= length) {
+                if ((b.getShort(body) & 0xFFFF) != FORMAT_PCM) return null;
+                channels = b.getShort(body + 2) & 0xFFFF;
+                sampleRate = b.getInt(body + 4);
+                bits = b.getShort(body + 14) & 0xFFFF;
+            } else if (id == DATA) {
+                if (channels == 0 || (bits != 8 && bits != 16)) return null;
+                // Engines that stream the file may leave the size unset; take what is there
+                int available = length - body;
+                int dataLength = size <= 0 || size > available ? available : size;
+                int frame = channels * bits / 8;
+                return new WavClip(sampleRate, channels, bits, body, dataLength - dataLength % frame);
+            }
+            if (size < 0) return null;
+            pos = body + size + (size & 1); // chunks are word-aligned
+        }
+        return null;
+    }
+
+    public int frames() {
+        return dataLength / (channels * bitsPerSample / 8);
+    }
+
+    public long durationMillis() {
+        return sampleRate > 0 ? frames() * 1000L / sampleRate : 0;
+    }
+}
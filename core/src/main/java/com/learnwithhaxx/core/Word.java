@@ -1,4 +1,4 @@
-package com.learnwithhaxx.app;
+package com.learnwithhaxx.core;
 
 public class Word {
     private int id;
@@ -10,6 +10,12 @@ public class Word {
     private String dateAdded;
     private int level; // 0 = New/Again, 1 = Good, 2 = Easy
 
+    // Derived from germanWord and meaning; stored with the row so lists never recompute them
+    private boolean derived;
+    private String searchKey;
+    private Gender gender;
+    private String bareWord;
+
     public Word() {}
 
     public Word(int userId, String germanWord, String meaning, String example, String partOfSpeech, String dateAdded) {
@@ -30,10 +36,10 @@ public class Word {
     public void setUserId(int userId) { this.userId = userId; }
 
     public String getGermanWord() { return germanWord; }
-    public void setGermanWord(String germanWord) { this.germanWord = germanWord; }
+    public void setGermanWord(String germanWord) { this.germanWord = germanWord; derived = false; }
 
     public String getMeaning() { return meaning; }
-    public void setMeaning(String meaning) { this.meaning = meaning; }
+    public void setMeaning(String meaning) { this.meaning = meaning; derived = false; }
 
     public String getExample() { return example; }
     public void setExample(String example) { this.example = example; }
@@ -46,4 +52,30 @@ public class Word {
 
     public int getLevel() { return level; }
     public void setLevel(int level) { this.level = level; }
+
+    /** Folded German word and meaning, see {@link SearchKeys#searchKey}. */
+    public String getSearchKey() { derive(); return searchKey; }
+
+    /** Gender from the article, null for anything that isn't a noun with one. */
+    public Gender getGender() { derive(); return gender; }
+
+    /** German word without its article. */
+    public String getBareWord() { derive(); return bareWord; }
+
+    /** Restores the derived fields as stored; call after germanWord and meaning are set. */
+    public void setDerived(String searchKey, Gender gender, String bareWord) {
+        if (searchKey == null || bareWord == null) return;
+        this.searchKey = searchKey;
+        this.gender = gender;
+        this.bareWord = bareWord;
+        derived = true;
+    }
+
+    private void derive() {
+        if (derived) return;
+        searchKey = SearchKeys.searchKey(germanWord, meaning);
+        gender = Gender.ofWord(germanWord);
+        bareWord = SearchKeys.stripArticle(germanWord);
+        derived = true;
+    }
 }
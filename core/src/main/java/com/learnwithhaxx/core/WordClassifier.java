@@ -0,0 +1,154 @@
+package com.learnwithhaxx.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Guesses the gender or part of speech of a bare word from its ending. Suffix
+ * rules are stored in a trie keyed on the reversed suffix, so a lookup walks the
+ * input from its last letter once and keeps the longest rule that applies.
+ * Capitalised input is looked up among noun rules, lower-case among verb and
+ * adjective rules. Rules marked weak ("en verb weak") only make a suggestion:
+ * plenty of adverbs end in -en or -ern (oben, gestern), so such a guess is
+ * confident only when the verb is in {@link VerbLexicon}.
+ */
+public final class WordClassifier {
+
+    public static final String NOUN = "Nomen";
+    public static final String VERB = "Verb";
+    public static final String ADJECTIVE = "Adjektiv";
+
+    // Labels stored in the trie
+    private static final byte NONE = 0, DER = 1, DIE = 2, DAS = 3, LABEL_VERB = 4, LABEL_ADJ = 5;
+
+    // Shortest stem left in front of a suffix: "den" is not a verb in -en
+    private static final int MIN_STEM = 2;
+
+    public static final class Prediction {
+        public final String partOfSpeech;
+        public final Gender gender; // null unless a noun
+        public final boolean fromArticle;
+        // Good enough to store as the word's category, not just to suggest
+        public final boolean confident;
+
+        Prediction(String partOfSpeech, Gender gender, boolean fromArticle, boolean confident) {
+            this.partOfSpeech = partOfSpeech;
+            this.gender = gender;
+            this.fromArticle = fromArticle;
+            this.confident = confident;
+        }
+    }
+
+    private static final class Node {
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        byte nounLabel = NONE;
+        byte wordLabel = NONE;
+        boolean weak;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+            int at = -i - 1;
+            char[] k = new char[keys.length + 1];
+            Node[] n = new Node[children.length + 1];
+            System.arraycopy(keys, 0, k, 0, at);
+            System.arraycopy(children, 0, n, 0, at);
+            k[at] = c;
+            n[at] = new Node();
+            System.arraycopy(keys, at, k, at + 1, keys.length - at);
+            System.arraycopy(children, at, n, at + 1, children.length - at);
+            keys = k;
+            children = n;
+            return n[at];
+        }
+    }
+
+    private final Node root = new Node();
+
+    private WordClassifier() {}
+
+    /** Reads "suffix class" lines; # starts a comment. */
+    public static WordClassifier load(InputStream in) throws IOException {
+        WordClassifier classifier = new WordClassifier();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] parts = line.split("\\s+");
+                if (parts.length < 2) continue;
+                classifier.add(parts[0].toLowerCase(Locale.GERMAN), parts[1], parts.length > 2 && parts[2].equals("weak"));
+            }
+        }
+        return classifier;
+    }
+
+    private void add(String suffix, String label, boolean weak) {
+        Node node = root;
+        for (int i = suffix.length() - 1; i >= 0; i--) {
+            node = node.addChild(suffix.charAt(i));
+        }
+        switch (label) {
+            case "der": node.nounLabel = DER; break;
+            case "die": node.nounLabel = DIE; break;
+            case "das": node.nounLabel = DAS; break;
+            case "verb": node.wordLabel = LABEL_VERB; break;
+            case "adj": node.wordLabel = LABEL_ADJ; break;
+            default: return;
+        }
+        if (node.wordLabel != NONE) node.weak = weak;
+    }
+
+    /** Prediction for what the user typed so far, or null if nothing applies. */
+    public Prediction predict(String input) {
+        if (input == null) return null;
+        String word = input.trim();
+        if (word.isEmpty()) return null;
+
+        // An explicit article or "sich" settles it
+        int space = word.indexOf(' ');
+        if (space > 0) {
+            String first = word.substring(0, space);
+            Gender gender = Gender.fromArticle(first);
+            if (gender != null) return new Prediction(NOUN, gender, true, true);
+            if (first.equalsIgnoreCase("sich")) return new Prediction(VERB, null, true, true);
+            word = word.substring(word.lastIndexOf(' ') + 1);
+        }
+
+        boolean noun = Character.isUpperCase(word.charAt(0));
+        byte best = NONE;
+        boolean weak = false;
+        Node node = root;
+        for (int i = word.length() - 1; i >= MIN_STEM; i--) {
+            node = node.child(Character.toLowerCase(word.charAt(i)));
+            if (node == null) break;
+            byte label = noun ? node.nounLabel : node.wordLabel;
+            if (label != NONE) {
+                best = label;
+                weak = !noun && node.weak;
+            }
+        }
+
+        switch (best) {
+            case DER: return new Prediction(NOUN, Gender.MASCULINE, false, true);
+            case DIE: return new Prediction(NOUN, Gender.FEMININE, false, true);
+            case DAS: return new Prediction(NOUN, Gender.NEUTER, false, true);
+            case LABEL_VERB:
+                boolean known = VerbLexicon.isKnownVerb(PrefixAnalyzer.analyze(word.toLowerCase(Locale.GERMAN)).base);
+                return new Prediction(VERB, null, false, !weak || known);
+            case LABEL_ADJ: return new Prediction(ADJECTIVE, null, false, !weak);
+            default: return noun ? new Prediction(NOUN, null, false, true) : null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.learnwithhaxx.core;
+
+import java.util.regex.Pattern;
+
+/**
+ * CSV format used for vocabulary backup: German,Meaning,Example,Category.
+ */
+public final class WordCsv {
+
+    public static final String HEADER = "German,Meaning,Example,Category";
+
+    // Split on commas that are outside quotes
+    private static final Pattern FIELD_SEPARATOR = Pattern.compile(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
+
+    private WordCsv() {}
+
+    public static boolean isHeader(String line) {
+        return line.toLowerCase().contains("german");
+    }
+
+    public static void appendRow(StringBuilder csv, Word w) {
+        csv.append(escape(w.getGermanWord())).append(",")
+           .append(escape(w.getMeaning())).append(",")
+           .append(escape(w.getExample())).append(",")
+           .append(escape(w.getPartOfSpeech())).append("\n");
+    }
+
+    /** Raw fields of a line, still escaped. Empty trailing fields are kept. */
+    public static String[] split(String line) {
+        return FIELD_SEPARATOR.split(line, -1);
+    }
+
+    public static String escape(String str) {
+        if (str == null) return "";
+        if (str.contains(",") || str.contains("\"") || str.contains("\n")) {
+            return "\"" + str.replace("\"", "\"\"") + "\"";
+        }
+        return str;
+    }
+
+    public static String unescape(String str) {
+        if (str.startsWith("\"") && str.endsWith("\"")) {
+            str = str.substring(1, str.length() - 1);
+            return str.replace("\"\"", "\"");
+        }
+        return str;
+    }
+}
@@ -0,0 +1,59 @@
+package com.learnwithhaxx.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class CompoundSplitterTest {
+
+    @Test
+    public void splitsBaseCompounds() {
+        CompoundSplitter splitter = CompoundSplitter.withBaseLexicon();
+        assertEquals(Arrays.asList("haus", "tür", "schlüssel"), splitter.split("der Haustürschlüssel"));
+        assertEquals(Arrays.asList("kinder", "zimmer"), splitter.split("das Kinderzimmer"));
+        assertEquals(Arrays.asList("arbeit", "platz"), splitter.split("der Arbeitsplatz"));
+    }
+
+    // Regression: the deck adds every word to the lexicon, so a compound used to match itself
+    @Test
+    public void stillSplitsCompoundsThatAreInTheLexicon() {
+        CompoundSplitter splitter = CompoundSplitter.withBaseLexicon();
+        splitter.add("der Haustürschlüssel");
+        splitter.add("das Kinderzimmer");
+        splitter.add("der Arbeitsplatz");
+
+        assertEquals(Arrays.asList("haus", "tür", "schlüssel"), splitter.split("der Haustürschlüssel"));
+        assertEquals(Arrays.asList("kinder", "zimmer"), splitter.split("das Kinderzimmer"));
+        assertEquals(Arrays.asList("arbeit", "platz"), splitter.split("der Arbeitsplatz"));
+    }
+
+    @Test
+    public void deckWordsJoinAndLeaveTheLexicon() {
+        CompoundSplitter splitter = new CompoundSplitter();
+        splitter.add("der Fahrrad");
+        splitter.add("der Ständer");
+        assertEquals(Arrays.asList("fahrrad", "ständer"), splitter.split("der Fahrradständer"));
+
+        splitter.remove("der Ständer");
+        assertEquals(Collections.emptyList(), splitter.split("der Fahrradständer"));
+    }
+
+    @Test
+    public void removingADeckWordKeepsTheBaseEntry() {
+        CompoundSplitter splitter = CompoundSplitter.withBaseLexicon();
+        splitter.add("das Haus");
+        splitter.remove("das Haus");
+        assertTrue(splitter.split("die Haustür").contains("haus"));
+    }
+
+    @Test
+    public void simpleWordsAreNotSplit() {
+        CompoundSplitter splitter = CompoundSplitter.withBaseLexicon();
+        splitter.add("der Tisch");
+        assertEquals(Collections.emptyList(), splitter.split("der Tisch"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.learnwithhaxx.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+public class ConjugationBufferTest {
+
+    private static final String[] VERBS = {
+            "machen", "arbeiten", "sammeln", "sein", "haben", "können", "fahren", "sprechen",
+            "aufstehen", "einkaufen", "verstehen", "übersetzen", "sich waschen", "sich anziehen"
+    };
+    // values() clones the array on every call, so it is read once
+    private static final Conjugator.Tense[] TENSES = Conjugator.Tense.values();
+
+    @Test
+    public void conjugateIntoAllocatesNothingOnceWarm() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        Conjugator.Verb[] verbs = new Conjugator.Verb[VERBS.length];
+        for (int i = 0; i < VERBS.length; i++) verbs[i] = Conjugator.analyze(VERBS[i]);
+        ConjugationBuffer buffer = new ConjugationBuffer();
+
+        // Warm up: caches the bare forms, grows the slots and lets the JIT settle
+        for (int i = 0; i < 20000; i++) {
+            bindAll(verbs, buffer);
+        }
+
+        int rounds = 2000;
+        long calls = (long) rounds * verbs.length * TENSES.length;
+        threads.getThreadAllocatedBytes(thread); // the first call may allocate itself
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < rounds; i++) {
+            bindAll(verbs, buffer);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // A single boxed value or String per call would show up as 16+ bytes per call
+        assertEquals("bytes allocated per call (" + allocated + " total)", 0, allocated / calls);
+    }
+
+    @Test
+    public void clearsPersonsWithoutAForm() {
+        ConjugationBuffer buffer = new ConjugationBuffer();
+        Conjugator.Verb verb = Conjugator.analyze("gehen");
+        assertTrue(verb.conjugateInto(Conjugator.Tense.IMPERATIV, buffer));
+        assertFalse(buffer.has(0));
+        assertTrue(buffer.contentEquals(1, "geh"));
+        assertTrue(buffer.contentEquals(3, "gehen wir"));
+
+        assertFalse(Conjugator.analyze("können").conjugateInto(Conjugator.Tense.IMPERATIV, buffer));
+        for (int p = 0; p < 6; p++) assertFalse(buffer.has(p));
+    }
+
+    @Test
+    public void growsForLongForms() {
+        ConjugationBuffer buffer = new ConjugationBuffer();
+        Conjugator.Verb verb = Conjugator.analyze("sich zurückerinnern");
+        assertTrue(verb.conjugateInto(Conjugator.Tense.FUTUR_I, buffer));
+        assertEquals("werden sich zurückerinnern", buffer.toString(5));
+        assertEquals(buffer.toString(5).length(), buffer.length(5));
+    }
+
+    private static void bindAll(Conjugator.Verb[] verbs, ConjugationBuffer buffer) {
+        for (Conjugator.Verb verb : verbs) {
+            for (Conjugator.Tense tense : TENSES) {
+                verb.conjugateInto(tense, buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.learnwithhaxx.core;
+
+import static com.learnwithhaxx.core.Conjugator.Tense.FUTUR_I;
+import static com.learnwithhaxx.core.Conjugator.Tense.IMPERATIV;
+import static com.learnwithhaxx.core.Conjugator.Tense.KONJUNKTIV_II;
+import static com.learnwithhaxx.core.Conjugator.Tense.PERFEKT;
+import static com.learnwithhaxx.core.Conjugator.Tense.PRAESENS;
+import static com.learnwithhaxx.core.Conjugator.Tense.PRAETERITUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ConjugatorTest {
+
+    // verb, then one row per tense: ich, du, er/sie/es, wir, ihr, sie/Sie ("-" where there is no form)
+    private static final Object[][] GOLDEN = {
+            // Regular, with the linking-e, -eln/-ern and sibilant cases
+            {"machen",
+                    PRAESENS, "mache, machst, macht, machen, macht, machen",
+                    PRAETERITUM, "machte, machtest, machte, machten, machtet, machten",
+                    PERFEKT, "habe gemacht, hast gemacht, hat gemacht, haben gemacht, habt gemacht, haben gemacht",
+                    FUTUR_I, "werde machen, wirst machen, wird machen, werden machen, werdet machen, werden machen",
+                    KONJUNKTIV_II, "würde machen, würdest machen, würde machen, würden machen, würdet machen, würden machen",
+                    IMPERATIV, "-, mach, -, machen wir, macht, machen Sie"},
+            {"arbeiten",
+                    PRAESENS, "arbeite, arbeitest, arbeitet, arbeiten, arbeitet, arbeiten",
+                    PRAETERITUM, "arbeitete, arbeitetest, arbeitete, arbeiteten, arbeitetet, arbeiteten",
+                    PERFEKT, "habe gearbeitet, hast gearbeitet, hat gearbeitet, haben gearbeitet, habt gearbeitet, haben gearbeitet",
+                    IMPERATIV, "-, arbeite, -, arbeiten wir, arbeitet, arbeiten Sie"},
+            {"öffnen",
+                    PRAESENS, "öffne, öffnest, öffnet, öffnen, öffnet, öffnen",
+                    PRAETERITUM, "öffnete, öffnetest, öffnete, öffneten, öffnetet, öffneten",
+                    IMPERATIV, "-, öffne, -, öffnen wir, öffnet, öffnen Sie"},
+            {"sammeln",
+                    PRAESENS, "sammle, sammelst, sammelt, sammeln, sammelt, sammeln",
+                    PRAETERITUM, "sammelte, sammeltest, sammelte, sammelten, sammeltet, sammelten",
+                    IMPERATIV, "-, sammle, -, sammeln wir, sammelt, sammeln Sie"},
+            {"wandern",
+                    PRAESENS, "wandere, wanderst, wandert, wandern, wandert, wandern",
+                    PERFEKT, "bin gewandert, bist gewandert, ist gewandert, sind gewandert, seid gewandert, sind gewandert",
+                    IMPERATIV, "-, wandere, -, wandern wir, wandert, wandern Sie"},
+            {"studieren",
+                    PRAESENS, "studiere, studierst, studiert, studieren, studiert, studieren",
+                    PERFEKT, "habe studiert, hast studiert, hat studiert, haben studiert, habt studiert, haben studiert"},
+            {"reisen",
+                    PRAESENS, "reise, reist, reist, reisen, reist, reisen",
+                    PRAETERITUM, "reiste, reistest, reiste, reisten, reistet, reisten",
+                    PERFEKT, "bin gereist, bist gereist, ist gereist, sind gereist, seid gereist, sind gereist"},
+            {"tanzen",
+                    PRAESENS, "tanze, tanzt, tanzt, tanzen, tanzt, tanzen"},
+
+            // Full paradigms from the lexicon
+            {"sein",
+                    PRAESENS, "bin, bist, ist, sind, seid, sind",
+                    PRAETERITUM, "war, warst, war, waren, wart, waren",
+                    PERFEKT, "bin gewesen, bist gewesen, ist gewesen, sind gewesen, seid gewesen, sind gewesen",
+                    FUTUR_I, "werde sein, wirst sein, wird sein, werden sein, werdet sein, werden sein",
+                    KONJUNKTIV_II, "wäre, wärest, wäre, wären, wäret, wären",
+                    IMPERATIV, "-, sei, -, seien wir, seid, seien Sie"},
+            {"haben",
+                    PRAESENS, "habe, hast, hat, haben, habt, haben",
+                    PRAETERITUM, "hatte, hattest, hatte, hatten, hattet, hatten",
+                    PERFEKT, "habe gehabt, hast gehabt, hat gehabt, haben gehabt, habt gehabt, haben gehabt",
+                    KONJUNKTIV_II, "hätte, hättest, hätte, hätten, hättet, hätten"},
+            {"werden",
+                    PRAESENS, "werde, wirst, wird, werden, werdet, werden",
+                    PRAETERITUM, "wurde, wurdest, wurde, wurden, wurdet, wurden",
+                    PERFEKT, "bin geworden, bist geworden, ist geworden, sind geworden, seid geworden, sind geworden",
+                    KONJUNKTIV_II, "würde, würdest, würde, würden, würdet, würden"},
+            {"können",
+                    PRAESENS, "kann, kannst, kann, können, könnt, können",
+                    PRAETERITUM, "konnte, konntest, konnte, konnten, konntet, konnten",
+                    PERFEKT, "habe gekonnt, hast gekonnt, hat gekonnt, haben gekonnt, habt gekonnt, haben gekonnt",
+                    KONJUNKTIV_II, "könnte, könntest, könnte, könnten, könntet, könnten",
+                    IMPERATIV, null},
+            {"wissen",
+                    PRAESENS, "weiß, weißt, weiß, wissen, wisst, wissen",
+                    PRAETERITUM, "wusste, wusstest, wusste, wussten, wusstet, wussten",
+                    KONJUNKTIV_II, "wüsste, wüsstest, wüsste, wüssten, wüsstet, wüssten"},
+
+            // Strong and mixed verbs: stem changes, umlauted Konjunktiv II, e -> i imperative
+            {"fahren",
+                    PRAESENS, "fahre, fährst, fährt, fahren, fahrt, fahren",
+                    PRAETERITUM, "fuhr, fuhrst, fuhr, fuhren, fuhrt, fuhren",
+                    PERFEKT, "bin gefahren, bist gefahren, ist gefahren, sind gefahren, seid gefahren, sind gefahren",
+                    KONJUNKTIV_II, "führe, führest, führe, führen, führet, führen",
+                    IMPERATIV, "-, fahr, -, fahren wir, fahrt, fahren Sie"},
+            {"sprechen",
+                    PRAESENS, "spreche, sprichst, spricht, sprechen, sprecht, sprechen",
+                    PRAETERITUM, "sprach, sprachst, sprach, sprachen, spracht, sprachen",
+                    KONJUNKTIV_II, "spräche, sprächest, spräche, sprächen, sprächet, sprächen",
+                    IMPERATIV, "-, sprich, -, sprechen wir, sprecht, sprechen Sie"},
+            {"lesen",
+                    PRAESENS, "lese, liest, liest, lesen, lest, lesen",
+                    PRAETERITUM, "las, lasest, las, lasen, last, lasen",
+                    IMPERATIV, "-, lies, -, lesen wir, lest, lesen Sie"},
+            {"nehmen",
+                    PRAESENS, "nehme, nimmst, nimmt, nehmen, nehmt, nehmen",
+                    IMPERATIV, "-, nimm, -, nehmen wir, nehmt, nehmen Sie"},
+            {"halten",
+                    PRAESENS, "halte, hältst, hält, halten, haltet, halten",
+                    PRAETERITUM, "hielt, hieltest, hielt, hielten, hieltet, hielten",
+                    KONJUNKTIV_II, "hielte, hieltest, hielte, hielten, hieltet, hielten"},
+            {"treten",
+                    PRAESENS, "trete, trittst, tritt, treten, tretet, treten",
+                    PRAETERITUM, "trat, tratest, trat, traten, tratet, traten",
+                    IMPERATIV, "-, tritt, -, treten wir, tretet, treten Sie"},
+            {"laufen",
+                    PRAESENS, "laufe, läufst, läuft, laufen, lauft, laufen",
+                    KONJUNKTIV_II, "liefe, liefest, liefe, liefen, liefet, liefen"},
+            {"gehen",
+                    PRAETERITUM, "ging, gingst, ging, gingen, gingt, gingen",
+                    PERFEKT, "bin gegangen, bist gegangen, ist gegangen, sind gegangen, seid gegangen, sind gegangen",
+                    KONJUNKTIV_II, "ginge, gingest, ginge, gingen, ginget, gingen"},
+            {"denken",
+                    PRAETERITUM, "dachte, dachtest, dachte, dachten, dachtet, dachten",
+                    PERFEKT, "habe gedacht, hast gedacht, hat gedacht, haben gedacht, habt gedacht, haben gedacht",
+                    KONJUNKTIV_II, "dächte, dächtest, dächte, dächten, dächtet, dächten"},
+            // Weak Präteritum in the lexicon keeps it as its Konjunktiv II
+            {"backen",
+                    PRAETERITUM, "backte, backtest, backte, backten, backtet, backten",
+                    PERFEKT, "habe gebacken, hast gebacken, hat gebacken, haben gebacken, habt gebacken, haben gebacken",
+                    KONJUNKTIV_II, "backte, backtest, backte, backten, backtet, backten"},
+
+            // Separable and inseparable prefixes
+            {"aufstehen",
+                    PRAESENS, "stehe auf, stehst auf, steht auf, stehen auf, steht auf, stehen auf",
+                    PRAETERITUM, "stand auf, standest auf, stand auf, standen auf, standet auf, standen auf",
+                    PERFEKT, "bin aufgestanden, bist aufgestanden, ist aufgestanden, sind aufgestanden, seid aufgestanden, sind aufgestanden",
+                    FUTUR_I, "werde aufstehen, wirst aufstehen, wird aufstehen, werden aufstehen, werdet aufstehen, werden aufstehen",
+                    IMPERATIV, "-, steh auf, -, stehen wir auf, steht auf, stehen Sie auf"},
+            {"anrufen",
+                    PRAESENS, "rufe an, rufst an, ruft an, rufen an, ruft an, rufen an",
+                    PERFEKT, "habe angerufen, hast angerufen, hat angerufen, haben angerufen, habt angerufen, haben angerufen",
+                    KONJUNKTIV_II, "riefe an, riefest an, riefe an, riefen an, riefet an, riefen an"},
+            {"einkaufen",
+                    PRAETERITUM, "kaufte ein, kauftest ein, kaufte ein, kauften ein, kauftet ein, kauften ein",
+                    PERFEKT, "habe eingekauft, hast eingekauft, hat eingekauft, haben eingekauft, habt eingekauft, haben eingekauft",
+                    KONJUNKTIV_II, "würde einkaufen, würdest einkaufen, würde einkaufen, würden einkaufen, würdet einkaufen, würden einkaufen"},
+            {"verstehen",
+                    PRAESENS, "verstehe, verstehst, versteht, verstehen, versteht, verstehen",
+                    PRAETERITUM, "verstand, verstandest, verstand, verstanden, verstandet, verstanden",
+                    PERFEKT, "habe verstanden, hast verstanden, hat verstanden, haben verstanden, habt verstanden, haben verstanden"},
+            {"bekommen",
+                    PRAETERITUM, "bekam, bekamst, bekam, bekamen, bekamt, bekamen",
+                    PERFEKT, "habe bekommen, hast bekommen, hat bekommen, haben bekommen, habt bekommen, haben bekommen",
+                    KONJUNKTIV_II, "bekäme, bekämest, bekäme, bekämen, bekämet, bekämen"},
+            {"erfahren",
+                    PRAESENS, "erfahre, erfährst, erfährt, erfahren, erfahrt, erfahren",
+                    PERFEKT, "habe erfahren, hast erfahren, hat erfahren, haben erfahren, habt erfahren, haben erfahren"},
+            {"übersetzen",
+                    PRAESENS, "übersetze, übersetzt, übersetzt, übersetzen, übersetzt, übersetzen",
+                    PERFEKT, "habe übersetzt, hast übersetzt, hat übersetzt, haben übersetzt, habt übersetzt, haben übersetzt"},
+
+            // Reflexive
+            {"sich waschen",
+                    PRAESENS, "wasche mich, wäschst dich, wäscht sich, waschen uns, wascht euch, waschen sich",
+                    PERFEKT, "habe mich gewaschen, hast dich gewaschen, hat sich gewaschen, haben uns gewaschen, habt euch gewaschen, haben sich gewaschen",
+                    FUTUR_I, "werde mich waschen, wirst dich waschen, wird sich waschen, werden uns waschen, werdet euch waschen, werden sich waschen",
+                    IMPERATIV, "-, wasch dich, -, waschen wir uns, wascht euch, waschen Sie sich"},
+            {"sich freuen",
+                    PRAETERITUM, "freute mich, freutest dich, freute sich, freuten uns, freutet euch, freuten sich",
+                    KONJUNKTIV_II, "würde mich freuen, würdest dich freuen, würde sich freuen, würden uns freuen, würdet euch freuen, würden sich freuen"},
+            {"sich anziehen",
+                    PRAESENS, "ziehe mich an, ziehst dich an, zieht sich an, ziehen uns an, zieht euch an, ziehen sich an",
+                    PERFEKT, "habe mich angezogen, hast dich angezogen, hat sich angezogen, haben uns angezogen, habt euch angezogen, haben sich angezogen",
+                    IMPERATIV, "-, zieh dich an, -, ziehen wir uns an, zieht euch an, ziehen Sie sich an"},
+    };
+
+    @Test
+    public void matchesGoldenTables() {
+        for (Object[] row : GOLDEN) {
+            String infinitive = (String) row[0];
+            Conjugator.Verb verb = Conjugator.analyze(infinitive);
+            for (int i = 1; i < row.length; i += 2) {
+                Conjugator.Tense tense = (Conjugator.Tense) row[i];
+                String expected = (String) row[i + 1];
+                assertEquals(infinitive + " " + tense, expected, join(verb.get(tense)));
+            }
+        }
+    }
+
+    // The buffer path must write exactly what get() returns
+    @Test
+    public void bufferMatchesGoldenTables() {
+        ConjugationBuffer buffer = new ConjugationBuffer();
+        for (Object[] row : GOLDEN) {
+            String infinitive = (String) row[0];
+            Conjugator.Verb verb = Conjugator.analyze(infinitive);
+            for (int i = 1; i < row.length; i += 2) {
+                Conjugator.Tense tense = (Conjugator.Tense) row[i];
+                boolean written = verb.conjugateInto(tense, buffer);
+                assertEquals(infinitive + " " + tense, row[i + 1] != null, written);
+                assertEquals(infinitive + " " + tense, row[i + 1], written ? join(buffer.toConjugation()) : null);
+            }
+        }
+    }
+
+    @Test
+    public void auxiliaryAndPartizip() {
+        String[][] cases = {
+                {"machen", "haben", "gemacht"},
+                {"gehen", "sein", "gegangen"},
+                {"aufstehen", "sein", "aufgestanden"},
+                {"bekommen", "haben", "bekommen"},
+                {"verstehen", "haben", "verstanden"},
+                {"studieren", "haben", "studiert"},
+                {"einkaufen", "haben", "eingekauft"},
+                {"sich anziehen", "haben", "angezogen"},
+        };
+        for (String[] c : cases) {
+            Conjugator.Verb verb = Conjugator.analyze(c[0]);
+            assertEquals(c[0], c[1], verb.getAuxiliary());
+            assertEquals(c[0], c[2], verb.getPartizip());
+        }
+    }
+
+    @Test
+    public void tensesAreGeneratedOnceAndCached() {
+        Conjugator.Verb verb = Conjugator.analyze("fahren");
+        for (Conjugator.Tense tense : Conjugator.Tense.values()) {
+            assertSame(tense.toString(), verb.get(tense), verb.get(tense));
+        }
+    }
+
+    @Test
+    public void conjugateIsThePresent() {
+        assertEquals("gehe, gehst, geht, gehen, geht, gehen", join(Conjugator.conjugate("gehen")));
+        assertEquals("freue mich, freust dich, freut sich, freuen uns, freut euch, freuen sich",
+                join(Conjugator.conjugate("Sich freuen ")));
+        assertNull(Conjugator.conjugate(""));
+    }
+
+    private static String join(Conjugator.Conjugation c) {
+        if (c == null) return null;
+        String[] forms = new String[6];
+        for (int p = 0; p < 6; p++) forms[p] = c.get(p) == null ? "-" : c.get(p);
+        return String.join(", ", Arrays.asList(forms));
+    }
+}
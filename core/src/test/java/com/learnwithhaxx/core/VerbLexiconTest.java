@@ -0,0 +1,125 @@
+package com.learnwithhaxx.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class VerbLexiconTest {
+
+    private static final Set<String> AUXILIARIES = new HashSet<>(Arrays.asList("h", "s", "hs", "sh"));
+
+    // Every data line of the resource, as written
+    private static List<String> resourceLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        InputStream in = VerbLexicon.class.getResourceAsStream("irregular_verbs.txt");
+        assertNotNull("irregular_verbs.txt is missing", in);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    public void everyLineIsLoadedOnce() throws IOException {
+        List<String> lines = resourceLines();
+        Set<String> seen = new HashSet<>();
+        for (String line : lines) {
+            String infinitive = line.split("\\s+")[0];
+            assertTrue("listed twice: " + infinitive, seen.add(infinitive));
+        }
+        assertEquals(lines.size(), VerbLexicon.entries().size());
+    }
+
+    @Test
+    public void everyLineIsWellFormed() throws IOException {
+        for (String line : resourceLines()) {
+            String[] parts = line.split("\\s+");
+            assertTrue("too few columns: " + line, parts.length >= 5);
+            for (int i = 5; i < parts.length; i++) {
+                String part = parts[i];
+                // parseLine quietly drops a paradigm with the wrong number of forms, so check the raw text
+                if (part.startsWith("pres=")) {
+                    assertEquals("present needs 6 forms: " + line, 6, part.substring(5).split(",").length);
+                } else if (part.startsWith("imp=")) {
+                    String value = part.substring(4);
+                    assertTrue("imperative needs 3 forms or -: " + line,
+                            value.equals("-") || value.split(",").length == 3);
+                } else {
+                    assertTrue("unknown column: " + line, part.startsWith("k2=") && part.length() > 3);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void everyEntryIsComplete() {
+        for (Map.Entry<String, VerbLexicon.Entry> e : VerbLexicon.entries().entrySet()) {
+            VerbLexicon.Entry entry = e.getValue();
+            String verb = e.getKey();
+
+            assertEquals(verb, entry.infinitive);
+            assertTrue("not an infinitive: " + verb, verb.endsWith("n"));
+            assertFalse("no Präteritum: " + verb, entry.praeteritum.isEmpty());
+            assertFalse("no Partizip: " + verb, entry.partizip.isEmpty());
+            assertTrue("bad auxiliary for " + verb + ": " + entry.auxiliary, AUXILIARIES.contains(entry.auxiliary));
+            if (entry.presentStem != null) assertFalse(verb, entry.presentStem.isEmpty());
+            if (entry.present != null) {
+                assertEquals(verb, 6, entry.present.length);
+                for (String form : entry.present) assertFalse(verb, form.isEmpty());
+            }
+            if (entry.konjunktiv != null) assertFalse(verb, entry.konjunktiv.isEmpty());
+            if (entry.imperative != null) {
+                assertTrue(verb, entry.imperative.length == 0 || entry.imperative.length == 3);
+                for (String form : entry.imperative) assertFalse(verb, form.isEmpty());
+            }
+
+            assertSame(entry, VerbLexicon.lookup(verb));
+            assertTrue(VerbLexicon.isKnownVerb(verb));
+        }
+    }
+
+    @Test
+    public void parsesOptionalColumns() {
+        VerbLexicon.Entry sein = VerbLexicon.lookup("sein");
+        assertNotNull(sein);
+        assertEquals("s", sein.auxiliary);
+        assertEquals(Arrays.asList("bin", "bist", "ist", "sind", "seid", "sind"), Arrays.asList(sein.present));
+
+        VerbLexicon.Entry fahren = VerbLexicon.lookup("fahren");
+        assertEquals("fähr", fahren.presentStem);
+        assertEquals("fuhr", fahren.praeteritum);
+        assertEquals("gefahren", fahren.partizip);
+        assertNull(fahren.present);
+
+        assertEquals(0, VerbLexicon.lookup("können").imperative.length);
+    }
+
+    @Test
+    public void skipsCommentsAndShortLines() {
+        assertNull(VerbLexicon.parseLine(""));
+        assertNull(VerbLexicon.parseLine("# gehen - ging gegangen s"));
+        assertNull(VerbLexicon.parseLine("gehen - ging gegangen"));
+        assertNull(VerbLexicon.lookup("machen"));
+    }
+}